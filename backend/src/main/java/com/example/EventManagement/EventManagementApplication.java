@@ -1,9 +1,12 @@
 package com.example.EventManagement;
 
+import com.example.EventManagement.domain.config.CacheLoadingJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = CacheLoadingJpaRepository.class)
 public class EventManagementApplication {
 
 	public static void main(String[] args) {
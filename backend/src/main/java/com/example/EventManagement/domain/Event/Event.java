@@ -3,11 +3,13 @@ package com.example.EventManagement.domain.Event;
 import com.example.EventManagement.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="events")
+@Table(name="events",
+        indexes = @Index(name = "idx_events_start_at_id", columnList = "startAt, id"))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,14 +18,26 @@ import java.time.LocalDateTime;
 @ToString
 public class Event {
 
-    @Id@GeneratedValue(strategy = GenerationType.IDENTITY)
+    static final int SUMMARY_LENGTH = 160;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     private String title;
 
+    // not part of the entity select; read on first access (needs the build's bytecode enhancement)
+    @Basic(fetch = FetchType.LAZY)
     @Column(length = 2000)
+    @ToString.Exclude
     private String description;
 
+    // the start of the description, kept with the row for the list cards so they never read it
+    @Column(length = SUMMARY_LENGTH)
+    @Setter(AccessLevel.NONE)
+    private String summary;
+
     private LocalDateTime startAt;
     private LocalDateTime endAt;
 
@@ -48,9 +62,17 @@ public class Event {
 
     private String cost;
 
-
-
-
+    @PrePersist
+    @PreUpdate
+    void summarize() {
+        // an update that never loaded the description did not change it
+        if (!Hibernate.isPropertyInitialized(this, "description")) {
+            return;
+        }
+        summary = description == null ? null
+                : description.substring(0, description.offsetByCodePoints(0,
+                        Math.min(SUMMARY_LENGTH, description.codePointCount(0, description.length()))));
+    }
 
 }
 
@@ -0,0 +1,25 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class EventBrowseQuery {
+
+    private String category;
+
+    // every listed tag must be present on the event
+    private List<String> tag;
+
+    private String status;
+
+    private String location;
+
+    // yyyy-MM of startAt
+    private String month;
+
+    private String cursor;
+
+    private Integer size;
+}
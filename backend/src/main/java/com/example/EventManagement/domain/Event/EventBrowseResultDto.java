@@ -0,0 +1,23 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventBrowseResultDto {
+
+    private List<EventCatalogItemDto> items;
+
+    private String nextCursor;
+
+    private int total;
+
+    // facet -> value -> number of matching events, most frequent first
+    private Map<String, Map<String, Integer>> facets;
+}
@@ -0,0 +1,36 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Opaque keyset position: the (startAt, id) of the last row a client has seen. A null startAt
+// means the client is already in the undated tail of the catalog.
+@Getter
+@AllArgsConstructor
+public class EventCatalogCursor {
+
+    private final LocalDateTime startAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = (startAt == null ? "" : startAt.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventCatalogCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            String startAt = raw.substring(0, sep);
+            return new EventCatalogCursor(startAt.isEmpty() ? null : LocalDateTime.parse(startAt),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Invalid catalog cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCatalogItemDto {
+    private Long id;
+
+    private String title;
+
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+
+    private String location;
+
+    private boolean managedbyManager;
+
+    private Integer requiredVolunteer;
+
+    private String status;
+
+    private String category;
+
+    private String tags;
+}
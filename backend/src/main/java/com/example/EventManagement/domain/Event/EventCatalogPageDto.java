@@ -0,0 +1,18 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventCatalogPageDto {
+
+    private List<EventCatalogItemDto> items;
+
+    // null when there are no more rows after this page
+    private String nextCursor;
+}
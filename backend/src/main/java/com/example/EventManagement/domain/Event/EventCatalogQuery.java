@@ -0,0 +1,26 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class EventCatalogQuery {
+
+    private String category;
+
+    private String status;
+
+    private Boolean managedbyManager;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String cursor;
+
+    private Integer size;
+}
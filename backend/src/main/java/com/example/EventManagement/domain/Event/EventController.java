@@ -1,7 +1,11 @@
 package com.example.EventManagement.domain.Event;
 
+import com.example.EventManagement.domain.web.ConditionalGet;
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.example.EventManagement.domain.web.ResourceVersions;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -10,24 +14,76 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
-    public EventController(EventService eventService)
-    { this.eventService = eventService; }
+    private final ResourceVersions resourceVersions;
+    public EventController(EventService eventService,ResourceVersions resourceVersions)
+    { this.eventService = eventService; this.resourceVersions = resourceVersions; }
 
+    // versions are bumped here rather than in EventService so they move only after the
+    // service's cache evictions, never while a cached read could still return the old event
     @PostMapping("/create")
     public ResponseEntity<EventOutDto> CreateEvent(@RequestBody EventInDto eventInDto){
-        return ResponseEntity.ok(eventService.CreatEvent(eventInDto));
+        EventOutDto created = eventService.CreatEvent(eventInDto);
+        resourceVersions.bump(ResourceVersions.EVENTS, ResourceVersions.event(created.getId()));
+        return ResponseEntity.ok(created);
     }
 
     @GetMapping("/eventlist")
-    public ResponseEntity<List<EventOutDto>> AllEvent(){
+    public ResponseEntity<List<EventListProjection>> AllEvent(WebRequest request){
 
-        return ResponseEntity.ok(eventService.listAll());
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.EVENTS), ConditionalGet.PUBLIC,
+                eventService::listAll);
+    }
+
+    // the catalog views are derived from the event set alone, so they share its version
+    @GetMapping("/catalog")
+    public ResponseEntity<EventCatalogPageDto> Catalog(EventCatalogQuery query, WebRequest request){
+
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.EVENTS), ConditionalGet.PUBLIC,
+                () -> eventService.catalog(query));
+    }
+
+    @GetMapping("/browse")
+    public ResponseEntity<EventBrowseResultDto> Browse(EventBrowseQuery query, WebRequest request){
+
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.EVENTS), ConditionalGet.PUBLIC,
+                () -> eventService.browse(query));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EventListProjection>> Search(@RequestParam("q") String query,
+                                                            @RequestParam(value = "limit", required = false) Integer limit,
+                                                            WebRequest request){
+
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.EVENTS), ConditionalGet.PUBLIC,
+                () -> eventService.search(query, limit));
+    }
+
+    // search and browse answer from the rebuilt indexes now, so their tags must move too
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Integer> RebuildSearchIndex(){
+
+        int indexed = eventService.rebuildIndexes();
+        resourceVersions.bump(ResourceVersions.EVENTS);
+        return ResponseEntity.ok(indexed);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<List<Object[]>> GetEventDetails(@PathVariable Long id){
+    public ResponseEntity<List<Object[]>> GetEventDetails(@PathVariable Long id, WebRequest request){
+
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.event(id)), ConditionalGet.PUBLIC,
+                () -> eventService.find(id));
+    }
+
+    // the full event, description included, for the detail page; the lists only carry a summary.
+    // The full event comes from the event cache, a ?fields= selection straight from its columns
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<EventOutDto> GetEvent(@PathVariable Long id,
+                                                @RequestParam(value = FieldSelection.PARAMETER, required = false) String fields,
+                                                WebRequest request){
 
-        return ResponseEntity.ok(eventService.find(id));
+        FieldSelection selection = FieldSelection.of(fields);
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.event(id)), ConditionalGet.PUBLIC,
+                () -> selection.isAll() ? eventService.getEvent(id) : eventService.getEventFields(id, selection));
     }
 
 
@@ -43,7 +99,9 @@ public class EventController {
     @PutMapping("/update/{eventid}/{userid}")
     public ResponseEntity<EventOutDto> SaveUpdatedEventData(@PathVariable Long eventid,@PathVariable String userid,@RequestBody EventInDto eventInDto){
 
-        return ResponseEntity.ok(eventService.SaveUpdatedEventData(eventid,userid,eventInDto));
+        EventOutDto updated = eventService.SaveUpdatedEventData(eventid,userid,eventInDto);
+        resourceVersions.bump(ResourceVersions.EVENTS, ResourceVersions.event(eventid));
+        return ResponseEntity.ok(updated);
     }
 
 
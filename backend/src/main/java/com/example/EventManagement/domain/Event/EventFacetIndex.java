@@ -0,0 +1,248 @@
+package com.example.EventManagement.domain.Event;
+
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Facet postings (value -> event ids) maintained on every write, so counts are never recomputed from the table.
+@Component
+public class EventFacetIndex implements EventIndex {
+
+    public static final String CATEGORY = "category";
+    public static final String TAGS = "tags";
+    public static final String STATUS = "status";
+    public static final String LOCATION = "location";
+    public static final String MONTH = "month";
+
+    private static final List<String> FACETS = List.of(CATEGORY, TAGS, STATUS, LOCATION, MONTH);
+    private static final int MAX_VALUES_PER_FACET = 50;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    // the catalog's order: by startAt with undated events last, then by id
+    private static final Comparator<EventCatalogItemDto> CATALOG_ORDER = Comparator
+            .comparing(EventCatalogItemDto::getStartAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(EventCatalogItemDto::getId);
+
+    // facet -> value -> ids
+    private Map<String, Map<String, Set<Long>>> postings = new HashMap<>();
+
+    // id -> facet values it is currently counted under
+    private Map<Long, Map<String, Set<String>>> documentFacets = new HashMap<>();
+
+    // id -> list-card snapshot served without touching the database
+    private Map<Long, EventCatalogItemDto> items = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public EventFacetIndex() {
+        FACETS.forEach(facet -> postings.put(facet, new HashMap<>()));
+    }
+
+    @Override
+    public void index(Event event) {
+        Map<String, Set<String>> values = facetValues(event);
+        EventCatalogItemDto item = new EventCatalogItemDto(event.getId(), event.getTitle(), event.getStartAt(),
+                event.getEndAt(), event.getLocation(), event.isManagedbyManager(), event.getRequiredVolunteer(),
+                event.getStatus(), event.getCategory(), event.getTags());
+
+        lock.writeLock().lock();
+        try {
+            // retract the old values first so a category or tag change moves the count
+            removeLocked(event.getId());
+
+            values.forEach((facet, facetValues) -> facetValues.forEach(value ->
+                    postings.get(facet).computeIfAbsent(value, v -> new HashSet<>()).add(event.getId())));
+            documentFacets.put(event.getId(), values);
+            items.put(event.getId(), item);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Map::clear);
+            documentFacets.clear();
+            items.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EventFacetIndex newInstance() {
+        return new EventFacetIndex();
+    }
+
+    @Override
+    public void replaceWith(EventIndex rebuilt) {
+        EventFacetIndex other = (EventFacetIndex) rebuilt;
+        lock.writeLock().lock();
+        try {
+            postings = other.postings;
+            documentFacets = other.documentFacets;
+            items = other.items;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public EventBrowseResultDto browse(Map<String, Set<String>> filters, EventCatalogCursor after, int size) {
+        lock.readLock().lock();
+        try {
+            Collection<Long> matches = match(filters);
+
+            EventCatalogItemDto afterItem = after == null ? null
+                    : new EventCatalogItemDto(after.getId(), null, after.getStartAt(), null, null, false, null, null, null, null);
+
+            // keep only the first size + 1 rows past the cursor (max-heap evicts the latest)
+            PriorityQueue<EventCatalogItemDto> page = new PriorityQueue<>(size + 2, CATALOG_ORDER.reversed());
+            for (Long id : matches) {
+                EventCatalogItemDto item = items.get(id);
+                if (afterItem != null && CATALOG_ORDER.compare(item, afterItem) <= 0) {
+                    continue;
+                }
+                page.add(item);
+                if (page.size() > size + 1) {
+                    page.poll();
+                }
+            }
+
+            List<EventCatalogItemDto> rows = new ArrayList<>(page);
+            rows.sort(CATALOG_ORDER);
+
+            String nextCursor = null;
+            if (rows.size() > size) {
+                rows = rows.subList(0, size);
+                EventCatalogItemDto last = rows.get(size - 1);
+                nextCursor = new EventCatalogCursor(last.getStartAt(), last.getId()).encode();
+            }
+
+            Map<String, Map<String, Integer>> counts = filters.isEmpty() ? precomputedCounts() : countsOver(matches);
+            return new EventBrowseResultDto(List.copyOf(rows), nextCursor, matches.size(), counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Map<String, Integer>> counts() {
+        lock.readLock().lock();
+        try {
+            return precomputedCounts();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> match(Map<String, Set<String>> filters) {
+        if (filters.isEmpty()) {
+            return items.keySet();
+        }
+
+        List<Set<Long>> required = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> filter : filters.entrySet()) {
+            for (String value : filter.getValue()) {
+                Set<Long> ids = postings.get(filter.getKey()).get(value);
+                if (ids == null) {
+                    return List.of();
+                }
+                required.add(ids);
+            }
+        }
+
+        // intersect starting from the most selective posting list
+        required.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new LinkedHashSet<>(required.get(0));
+        for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+            result.retainAll(required.get(i));
+        }
+        return result;
+    }
+
+    private Map<String, Map<String, Integer>> precomputedCounts() {
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        for (String facet : FACETS) {
+            Map<String, Integer> values = new HashMap<>();
+            postings.get(facet).forEach((value, ids) -> values.put(value, ids.size()));
+            counts.put(facet, topValues(values));
+        }
+        return counts;
+    }
+
+    private Map<String, Map<String, Integer>> countsOver(Collection<Long> ids) {
+        Map<String, Map<String, Integer>> raw = new HashMap<>();
+        FACETS.forEach(facet -> raw.put(facet, new HashMap<>()));
+        for (Long id : ids) {
+            documentFacets.get(id).forEach((facet, values) ->
+                    values.forEach(value -> raw.get(facet).merge(value, 1, Integer::sum)));
+        }
+
+        Map<String, Map<String, Integer>> counts = new LinkedHashMap<>();
+        FACETS.forEach(facet -> counts.put(facet, topValues(raw.get(facet))));
+        return counts;
+    }
+
+    private static Map<String, Integer> topValues(Map<String, Integer> values) {
+        Map<String, Integer> top = new LinkedHashMap<>();
+        values.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(MAX_VALUES_PER_FACET)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+        return top;
+    }
+
+    private void removeLocked(Long eventId) {
+        Map<String, Set<String>> previous = documentFacets.remove(eventId);
+        items.remove(eventId);
+        if (previous == null) {
+            return;
+        }
+        previous.forEach((facet, values) -> values.forEach(value -> {
+            Map<String, Set<Long>> facetPostings = postings.get(facet);
+            Set<Long> ids = facetPostings.get(value);
+            if (ids != null) {
+                ids.remove(eventId);
+                if (ids.isEmpty()) {
+                    facetPostings.remove(value);
+                }
+            }
+        }));
+    }
+
+    private static Map<String, Set<String>> facetValues(Event event) {
+        Map<String, Set<String>> values = new HashMap<>();
+        putValue(values, CATEGORY, event.getCategory());
+        putValue(values, STATUS, event.getStatus());
+        putValue(values, LOCATION, event.getLocation());
+        if (event.getStartAt() != null) {
+            putValue(values, MONTH, event.getStartAt().format(MONTH_FORMAT));
+        }
+        if (event.getTags() != null) {
+            for (String tag : event.getTags().split(",")) {
+                putValue(values, TAGS, tag);
+            }
+        }
+        return values;
+    }
+
+    private static void putValue(Map<String, Set<String>> values, String facet, String value) {
+        if (value != null && !value.isBlank()) {
+            values.computeIfAbsent(facet, f -> new HashSet<>()).add(value.trim());
+        }
+    }
+}
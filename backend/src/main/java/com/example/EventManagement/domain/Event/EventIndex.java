@@ -0,0 +1,16 @@
+package com.example.EventManagement.domain.Event;
+
+// In-memory read model over events, kept current by EventService on every write.
+public interface EventIndex {
+
+    void index(Event event);
+
+    void clear();
+
+    // an empty index of the same kind, filled by a rebuild while this one keeps serving
+    EventIndex newInstance();
+
+    // takes over the contents of a rebuilt index in one step; readers see either the old
+    // contents or the new ones, never a partial index
+    void replaceWith(EventIndex rebuilt);
+}
@@ -0,0 +1,21 @@
+package com.example.EventManagement.domain.Event;
+
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import java.time.LocalDateTime;
+
+// One event card of the list endpoints. The description stays out: the card gets the summary
+// column saved with it, the full text comes from /Event/{id}/detail.
+@JsonFilter(FieldSelection.FILTER)
+public interface EventListProjection {
+    Long getId();
+    String getTitle();
+    String getSummary();
+    LocalDateTime getStartAt();
+    LocalDateTime getEndAt();
+    String getLocation();
+    Integer getRequiredVolunteer();
+    String getStatus();
+    String getCategory();
+}
@@ -0,0 +1,15 @@
+package com.example.EventManagement.domain.Event;
+
+import com.example.EventManagement.domain.config.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MappingConfig.class)
+public interface EventMapper {
+
+    EventOutDto toOutDto(Event event);
+
+    Event toEntity(EventInDto eventInDto);
+
+    void updateEntity(EventInDto eventInDto, @MappingTarget Event event);
+}
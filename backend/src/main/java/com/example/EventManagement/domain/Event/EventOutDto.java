@@ -1,11 +1,14 @@
 package com.example.EventManagement.domain.Event;
 
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+@JsonFilter(FieldSelection.FILTER)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
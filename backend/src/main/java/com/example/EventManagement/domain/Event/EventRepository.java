@@ -1,12 +1,18 @@
 package com.example.EventManagement.domain.Event;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface EventRepository extends JpaRepository<Event,Long> {
 
 
@@ -20,25 +26,110 @@ public interface EventRepository extends JpaRepository<Event,Long> {
     List<Object[]> findEventDetailsNative(@Param("eventId") Long eventId);
 
 
+    // list cards carry the stored summary instead of the description
+    @Query("""
+            SELECT e.id AS id, e.title AS title, e.summary AS summary,
+                e.startAt AS startAt, e.endAt AS endAt, e.location AS location,
+                e.requiredVolunteer AS requiredVolunteer, e.status AS status, e.category AS category
+            FROM Event e
+            ORDER BY e.id
+            """)
+    List<EventListProjection> findListItems();
+
+
+    @Query("""
+            SELECT e.id AS id, e.title AS title, e.summary AS summary,
+                e.startAt AS startAt, e.endAt AS endAt, e.location AS location,
+                e.requiredVolunteer AS requiredVolunteer, e.status AS status, e.category AS category
+            FROM Event e
+            WHERE e.id IN :ids
+            """)
+    List<EventListProjection> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
+
     @Query(value = """
-            SELECT events.* FROM events LEFT JOIN student_event_register s ON events.id=s.event_id
-            WHERE user_id=:userid
-            ;
+            SELECT e.id AS id, e.title AS title, e.summary AS summary,
+                e.start_at AS startAt, e.end_at AS endAt, e.location AS location,
+                e.required_volunteer AS requiredVolunteer, e.status AS status, e.category AS category
+            FROM events e
+            JOIN student_event_register s ON e.id=s.event_id
+            WHERE s.user_id=:userid
             """,nativeQuery = true)
-    List<Event> findByAssignedEventsStudent(@Param("userid") String userid);
+    List<EventListProjection> findByAssignedEventsStudent(@Param("userid") String userid);
 
 
     @Query(value = """
-            SELECT  e.*
-                                 FROM events e
-                                 LEFT JOIN event_invitation ei ON e.id=ei.eventid
-                                 WHERE ei.selected=1 AND ei.userid=:userid
+            SELECT e.id AS id, e.title AS title, e.summary AS summary,
+                e.start_at AS startAt, e.end_at AS endAt, e.location AS location,
+                e.required_volunteer AS requiredVolunteer, e.status AS status, e.category AS category
+            FROM events e
+            JOIN event_invitation ei ON e.id=ei.eventid
+            WHERE ei.selected=1 AND ei.userid=:userid
             """,nativeQuery = true)
-    List<Event> findByAssignedEventsManager(@Param("userid") String userid);
+    List<EventListProjection> findByAssignedEventsManager(@Param("userid") Long userid);
+
+
+    // the edit form and the detail view show the description, so these load it with the row
+    @EntityGraph(attributePaths = "description")
+    Optional<Event> findWithDescriptionById(Long id);
 
 
+    @EntityGraph(attributePaths = "description")
     @Query("SELECT e FROM Event e WHERE e.id = :id AND e.createdBy.id = :userId")
     Optional<Event> findByIdAndCreatedById(@Param("id") Long id, @Param("userId") Long userId);
 
 
+    // index rebuilds read the description, so it comes with the batch instead of one select per event
+    @EntityGraph(attributePaths = "description")
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+
+    // keyset page over (startAt, id); description is left out on purpose. Undated events sort
+    // after all dated ones and come from findUndatedCatalogPage, so this stays on the index
+    @Query("""
+            SELECT new com.example.EventManagement.domain.Event.EventCatalogItemDto(
+                e.id, e.title, e.startAt, e.endAt, e.location, e.managedbyManager,
+                e.requiredVolunteer, e.status, e.category, e.tags)
+            FROM Event e
+            WHERE e.startAt IS NOT NULL
+              AND (:category IS NULL OR e.category = :category)
+              AND (:status IS NULL OR e.status = :status)
+              AND (:managedbyManager IS NULL OR e.managedbyManager = :managedbyManager)
+              AND (:fromAt IS NULL OR e.startAt >= :fromAt)
+              AND (:toAt IS NULL OR e.startAt < :toAt)
+              AND (:afterStartAt IS NULL
+                   OR e.startAt > :afterStartAt
+                   OR (e.startAt = :afterStartAt AND e.id > :afterId))
+            ORDER BY e.startAt ASC, e.id ASC
+            """)
+    List<EventCatalogItemDto> findCatalogPage(@Param("category") String category,
+                                              @Param("status") String status,
+                                              @Param("managedbyManager") Boolean managedbyManager,
+                                              @Param("fromAt") LocalDateTime fromAt,
+                                              @Param("toAt") LocalDateTime toAt,
+                                              @Param("afterStartAt") LocalDateTime afterStartAt,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+
+    // the tail of the catalog: events without a start date, by id
+    @Query("""
+            SELECT new com.example.EventManagement.domain.Event.EventCatalogItemDto(
+                e.id, e.title, e.startAt, e.endAt, e.location, e.managedbyManager,
+                e.requiredVolunteer, e.status, e.category, e.tags)
+            FROM Event e
+            WHERE e.startAt IS NULL
+              AND (:category IS NULL OR e.category = :category)
+              AND (:status IS NULL OR e.status = :status)
+              AND (:managedbyManager IS NULL OR e.managedbyManager = :managedbyManager)
+              AND (:afterId IS NULL OR e.id > :afterId)
+            ORDER BY e.id ASC
+            """)
+    List<EventCatalogItemDto> findUndatedCatalogPage(@Param("category") String category,
+                                                     @Param("status") String status,
+                                                     @Param("managedbyManager") Boolean managedbyManager,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+
 }
@@ -0,0 +1,12 @@
+package com.example.EventManagement.domain.Event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EventSearchHit {
+    private Long id;
+
+    private double score;
+}
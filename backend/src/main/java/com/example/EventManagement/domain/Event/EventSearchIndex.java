@@ -0,0 +1,209 @@
+package com.example.EventManagement.domain.Event;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Inverted index over title, description, tags and category, ranked with BM25.
+@Component
+public class EventSearchIndex implements EventIndex {
+
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAGS_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // term -> (event id -> weighted term frequency)
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+
+    // event id -> its terms, kept so an update can retract the old postings
+    private Map<Long, Map<String, Integer>> documents = new HashMap<>();
+
+    private Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Event event) {
+        Map<String, Integer> terms = analyze(event);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(event.getId());
+
+            int length = 0;
+            for (Map.Entry<String, Integer> term : terms.entrySet()) {
+                postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(event.getId(), term.getValue());
+                length += term.getValue();
+            }
+            documents.put(event.getId(), terms);
+            documentLengths.put(event.getId(), length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public EventSearchIndex newInstance() {
+        return new EventSearchIndex();
+    }
+
+    @Override
+    public void replaceWith(EventIndex rebuilt) {
+        EventSearchIndex other = (EventSearchIndex) rebuilt;
+        lock.writeLock().lock();
+        try {
+            postings = other.postings;
+            documents = other.documents;
+            documentLengths = other.documentLengths;
+            totalLength = other.totalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<EventSearchHit> search(String query, int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> matches = postings.get(term);
+                if (matches == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - matches.size() + 0.5) / (matches.size() + 0.5));
+                for (Map.Entry<Long, Integer> match : matches.entrySet()) {
+                    double tf = match.getValue();
+                    double norm = K1 * (1 - B + B * documentLengths.get(match.getKey()) / averageLength);
+                    scores.merge(match.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long eventId) {
+        Map<String, Integer> previous = documents.remove(eventId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(eventId);
+                if (matches.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(eventId);
+    }
+
+    private static List<EventSearchHit> topHits(Map<Long, Double> scores, int limit) {
+        Comparator<EventSearchHit> byRank = Comparator.comparingDouble(EventSearchHit::getScore)
+                .thenComparing(EventSearchHit::getId, Comparator.reverseOrder());
+
+        // min-heap of the best `limit` hits seen so far
+        PriorityQueue<EventSearchHit> best = new PriorityQueue<>(limit + 1, byRank);
+        for (Map.Entry<Long, Double> score : scores.entrySet()) {
+            best.add(new EventSearchHit(score.getKey(), score.getValue()));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        }
+
+        List<EventSearchHit> hits = new ArrayList<>(best);
+        hits.sort(byRank.reversed());
+        return hits;
+    }
+
+    private static Map<String, Integer> analyze(Event event) {
+        Map<String, Integer> terms = new HashMap<>();
+        addField(terms, event.getTitle(), TITLE_WEIGHT);
+        addField(terms, event.getTags(), TAGS_WEIGHT);
+        addField(terms, event.getCategory(), CATEGORY_WEIGHT);
+        addField(terms, event.getDescription(), DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void addField(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+}
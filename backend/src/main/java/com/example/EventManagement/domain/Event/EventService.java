@@ -1,30 +1,90 @@
 package com.example.EventManagement.domain.Event;
 
+import com.example.EventManagement.domain.config.CacheConfig;
+import com.example.EventManagement.domain.config.ReadRoutingContext;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SparseFieldQuery;
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.repository.UserRepository;
-import org.modelmapper.ModelMapper;
+import com.example.EventManagement.domain.web.FieldSelection;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 public class EventService {
+    private static final int DEFAULT_CATALOG_PAGE_SIZE = 20;
+    private static final int MAX_CATALOG_PAGE_SIZE = 100;
+
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
     private EventRepository eventRepository;
     private UserRepository userRepository;
+    private EventSearchIndex eventSearchIndex;
+    private EventFacetIndex eventFacetIndex;
+    private List<EventIndex> eventIndexes;
+    private EventMapper eventMapper;
+    private SparseFieldQuery sparseFieldQuery;
+    private SingleFlight singleFlight;
+
+    private final Object rebuildLock = new Object();
+    // guards the live indexes against a swap; events written while a rebuild runs, by id
+    private final Object reindexLock = new Object();
+    private Map<Long, Event> writtenDuringRebuild;
+
+    // without SingleFlight: every cache miss loads on its caller's thread
+    public EventService(EventRepository eventRepository,UserRepository userRepository,
+                        EventSearchIndex eventSearchIndex,EventFacetIndex eventFacetIndex,
+                        List<EventIndex> eventIndexes,EventMapper eventMapper,SparseFieldQuery sparseFieldQuery){
+        this(eventRepository, userRepository, eventSearchIndex, eventFacetIndex, eventIndexes, eventMapper,
+                sparseFieldQuery, null);
+    }
 
     @Autowired
-    private ModelMapper modelMapper;
-
-    public EventService(EventRepository eventRepository,UserRepository userRepository){
+    public EventService(EventRepository eventRepository,UserRepository userRepository,
+                        EventSearchIndex eventSearchIndex,EventFacetIndex eventFacetIndex,
+                        List<EventIndex> eventIndexes,EventMapper eventMapper,SparseFieldQuery sparseFieldQuery,
+                        SingleFlight singleFlight){
         this.eventRepository=eventRepository;
         this.userRepository=userRepository;
+        this.eventSearchIndex=eventSearchIndex;
+        this.eventFacetIndex=eventFacetIndex;
+        this.eventIndexes=eventIndexes;
+        this.eventMapper=eventMapper;
+        this.sparseFieldQuery=sparseFieldQuery;
+        this.singleFlight=singleFlight;
     }
 
 
+    // details of an id read before it existed are cached as empty, so they go with the create
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAILS, key = "#result.id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_LIST, key = CacheConfig.EVENT_LIST_KEY)
+    })
     public EventOutDto CreatEvent(EventInDto ev){
 
-        Event  event=modelMapper.map(ev,Event.class);
+        Event  event=eventMapper.toEntity(ev);
 
         System.out.println(ev);
         System.out.println(event);
@@ -38,61 +98,263 @@ public class EventService {
 
         event.setStatus("Event Created");
 
-        EventOutDto res=modelMapper.map(eventRepository.save(event),EventOutDto.class);
+        Event saved=eventRepository.save(event);
+        reindex(saved);
+        forgetFlights(saved.getId());
+
+        EventOutDto res=eventMapper.toOutDto(saved);
 
         return res;
     }
 
-    public List<EventOutDto> listAll(){
+    // cached under a single key: evicting by key waits for an in-flight load, clear() does not
+    @Cacheable(cacheNames = CacheConfig.EVENT_LIST, key = CacheConfig.EVENT_LIST_KEY, sync = true)
+    public List<EventListProjection> listAll(){
+
+         return shared(SingleFlight.EVENT_LIST, CacheConfig.EVENT_LIST_KEY,
+                 () -> ReadRoutingContext.cacheLoad(eventRepository::findListItems));
+    }
+
+    public EventCatalogPageDto catalog(EventCatalogQuery query){
+
+        int size = query.getSize() == null ? DEFAULT_CATALOG_PAGE_SIZE
+                : Math.max(1, Math.min(query.getSize(), MAX_CATALOG_PAGE_SIZE));
+
+        EventCatalogCursor after = query.getCursor() == null || query.getCursor().isBlank()
+                ? null : EventCatalogCursor.decode(query.getCursor());
+
+        // fetch one extra row to know whether another page exists
+        List<EventCatalogItemDto> rows = new ArrayList<>();
+        if (after == null || after.getStartAt() != null) {
+            rows.addAll(eventRepository.findCatalogPage(
+                    blankToNull(query.getCategory()),
+                    blankToNull(query.getStatus()),
+                    query.getManagedbyManager(),
+                    query.getFrom(),
+                    query.getTo(),
+                    after == null ? null : after.getStartAt(),
+                    after == null ? null : after.getId(),
+                    PageRequest.ofSize(size + 1)));
+        }
+        // undated events follow the dated ones; a date range leaves them out
+        if (rows.size() <= size && query.getFrom() == null && query.getTo() == null) {
+            rows.addAll(eventRepository.findUndatedCatalogPage(
+                    blankToNull(query.getCategory()),
+                    blankToNull(query.getStatus()),
+                    query.getManagedbyManager(),
+                    after == null || after.getStartAt() != null ? null : after.getId(),
+                    PageRequest.ofSize(size + 1 - rows.size())));
+        }
 
+        if (rows.size() <= size) {
+            return new EventCatalogPageDto(rows, null);
+        }
 
-         return eventRepository.findAll()
-                .stream()
-                .map(event -> modelMapper.map(event, EventOutDto.class))
-                .toList();
+        List<EventCatalogItemDto> page = rows.subList(0, size);
+        EventCatalogItemDto last = page.get(size - 1);
+        return new EventCatalogPageDto(List.copyOf(page), new EventCatalogCursor(last.getStartAt(), last.getId()).encode());
+    }
+
+    public EventBrowseResultDto browse(EventBrowseQuery query){
+
+        int size = query.getSize() == null ? DEFAULT_CATALOG_PAGE_SIZE
+                : Math.max(1, Math.min(query.getSize(), MAX_CATALOG_PAGE_SIZE));
+
+        EventCatalogCursor after = query.getCursor() == null || query.getCursor().isBlank()
+                ? null : EventCatalogCursor.decode(query.getCursor());
+
+        Map<String, Set<String>> filters = new HashMap<>();
+        addFilter(filters, EventFacetIndex.CATEGORY, query.getCategory());
+        addFilter(filters, EventFacetIndex.STATUS, query.getStatus());
+        addFilter(filters, EventFacetIndex.LOCATION, query.getLocation());
+        addFilter(filters, EventFacetIndex.MONTH, query.getMonth());
+        if (query.getTag() != null) {
+            query.getTag().forEach(tag -> addFilter(filters, EventFacetIndex.TAGS, tag));
+        }
+
+        return eventFacetIndex.browse(filters, after, size);
+    }
+
+    private static void addFilter(Map<String, Set<String>> filters, String facet, String value){
+        if (value != null && !value.isBlank()) {
+            filters.computeIfAbsent(facet, f -> new LinkedHashSet<>()).add(value.trim());
+        }
+    }
+
+    private static String blankToNull(String value){
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#id", sync = true)
+    public EventOutDto getEvent(Long id){
+        return shared(SingleFlight.EVENT, id, () ->
+                eventMapper.toOutDto(ReadRoutingContext.cacheLoad(() -> eventRepository.findWithDescriptionById(id)).orElseThrow()));
     }
 
+    // not cached: a partial event is one narrow select, and the description is only read when asked for
+    public EventOutDto getEventFields(Long id, FieldSelection fields){
+        return sparseFieldQuery.findOne(Event.class, "id", id, EventOutDto.class, fields, Map.of()).orElseThrow();
+    }
+
+    // sync: concurrent misses share one query, and an eviction waits for a load in flight instead
+    // of letting it put the pre-write rows back afterwards. An unknown id is cached as an empty
+    // list until CreatEvent uses it
+    @Cacheable(cacheNames = CacheConfig.EVENT_DETAILS, key = "#id", sync = true)
     public List<Object[]> find(Long id){
 
 //        Event ev=eventRepository.findById(id).orElseThrow();
 
 
-        return eventRepository.findEventDetailsNative(id) ;
+        return shared(SingleFlight.EVENT_DETAILS, id,
+                () -> ReadRoutingContext.cacheLoad(() -> eventRepository.findEventDetailsNative(id)));
+    }
+
+    // the cache loads go through SingleFlight: a caller stops waiting after its timeout, an
+    // abandoned load is cancelled, and singleflight.* counts them per flight
+    private <T> T shared(String flight, Object key, Supplier<T> load){
+        return singleFlight == null ? load.get() : singleFlight.execute(flight, key, load);
+    }
+
+    // after a write, later misses start their own load instead of joining one that read before it
+    private void forgetFlights(Long id){
+        if (singleFlight == null) {
+            return;
+        }
+        singleFlight.forget(SingleFlight.EVENT, id);
+        singleFlight.forget(SingleFlight.EVENT_DETAILS, id);
+        singleFlight.forget(SingleFlight.EVENT_LIST, CacheConfig.EVENT_LIST_KEY);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#event.id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAILS, key = "#event.id"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_LIST, key = CacheConfig.EVENT_LIST_KEY)
+    })
     public Event Update(Event event){
-        return eventRepository.save(event);
+        Event saved=eventRepository.save(event);
+        reindex(saved);
+        forgetFlights(saved.getId());
+        return saved;
     }
 
     public EventOutDto GetEventDataForUpdate(Long eventid, String userid) {
 
         Event event=eventRepository.findByIdAndCreatedById(eventid,Long.parseLong(userid)).orElse(null);
 
-        EventOutDto eventOutDto= new EventOutDto();
-
-        if(event!=null){
-
-            modelMapper.map(event,eventOutDto);
-
+        if(event==null){
+            return new EventOutDto();
         }
 
-        return eventOutDto;
+        return eventMapper.toOutDto(event);
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventid"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_DETAILS, key = "#eventid"),
+            @CacheEvict(cacheNames = CacheConfig.EVENT_LIST, key = CacheConfig.EVENT_LIST_KEY)
+    })
+    @Transactional
     public EventOutDto SaveUpdatedEventData(Long eventid, String userid,EventInDto eventInDto) {
 
         Event event=eventRepository.findByIdAndCreatedById(eventid,Long.parseLong(userid)).orElse(null);
 
         if(event!=null){
-            modelMapper.map(eventInDto,event);
+            eventMapper.updateEntity(eventInDto,event);
             event.setId(eventid);
 //            event.set
             event.setStatus("EVENT UPDATED");
         }
 
         eventRepository.save(event);
+        reindex(event);
+        forgetFlights(eventid);
 
 
         return new EventOutDto();
     }
+
+    public List<EventListProjection> search(String query, Integer limit){
+
+        int size = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        List<EventSearchHit> hits = eventSearchIndex.search(query, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, EventListProjection> events = eventRepository.findListItemsByIdIn(hits.stream().map(EventSearchHit::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(EventListProjection::getId, Function.identity()));
+
+        // keep ranking order; skip hits whose row has disappeared since indexing
+        return hits.stream()
+                .map(hit -> events.get(hit.getId()))
+                .filter(event -> event != null)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndexesOnStartup(){
+        rebuildIndexes();
+    }
+
+    // Fills new index instances from the table while the live ones keep serving, then swaps
+    // them in. Writes made meanwhile go to the live indexes and are replayed on the new ones
+    // before the swap, so an older batch row never wins over them.
+    public int rebuildIndexes(){
+
+        synchronized (rebuildLock) {
+            long started = System.currentTimeMillis();
+            List<EventIndex> rebuilt = eventIndexes.stream().map(EventIndex::newInstance).toList();
+            synchronized (reindexLock) {
+                writtenDuringRebuild = new HashMap<>();
+            }
+
+            int count = 0;
+            Long lastId = 0L;
+            List<Event> batch;
+            try {
+                do {
+                    // the indexes keep what they are built from, so the batches are read from the primary
+                    Long after = lastId;
+                    batch = ReadRoutingContext.cacheLoad(() ->
+                            eventRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(REBUILD_BATCH_SIZE)));
+                    for (Event event : batch) {
+                        rebuilt.forEach(index -> index.index(event));
+                    }
+                    count += batch.size();
+                    if (!batch.isEmpty()) {
+                        lastId = batch.get(batch.size() - 1).getId();
+                    }
+                } while (batch.size() == REBUILD_BATCH_SIZE);
+
+                synchronized (reindexLock) {
+                    for (Event event : writtenDuringRebuild.values()) {
+                        rebuilt.forEach(index -> index.index(event));
+                    }
+                    for (int i = 0; i < eventIndexes.size(); i++) {
+                        eventIndexes.get(i).replaceWith(rebuilt.get(i));
+                    }
+                }
+            } finally {
+                synchronized (reindexLock) {
+                    writtenDuringRebuild = null;
+                }
+            }
+
+            log.info("Rebuilt event indexes from {} events in {} ms", count, System.currentTimeMillis() - started);
+            return count;
+        }
+    }
+
+    private void reindex(Event event){
+        synchronized (reindexLock) {
+            for (EventIndex index : eventIndexes) {
+                index.index(event);
+            }
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.put(event.getId(), event);
+            }
+        }
+    }
 }
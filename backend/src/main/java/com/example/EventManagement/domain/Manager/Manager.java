@@ -2,11 +2,15 @@ package com.example.EventManagement.domain.Manager;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import com.example.EventManagement.domain.entity.User;
 
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "manager")
 @Table(name="manager")
 @Getter
 @Setter
@@ -21,7 +25,8 @@ public class Manager {
 //    email: user?.email || '',
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_seq")
+    @SequenceGenerator(name = "manager_seq", sequenceName = "manager_seq", allocationSize = 50)
     private Long id;
 
     private String phone;
@@ -80,8 +85,9 @@ public class Manager {
 
     private String emergencyContactRelation;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", referencedColumnName = "id")
+    @ToString.Exclude
     private User user;
 
 }
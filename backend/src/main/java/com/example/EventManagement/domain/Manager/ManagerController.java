@@ -1,9 +1,13 @@
 package com.example.EventManagement.domain.Manager;
 
-import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventListProjection;
+import com.example.EventManagement.domain.web.ConditionalGet;
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.example.EventManagement.domain.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -13,21 +17,27 @@ import java.util.List;
 public class ManagerController {
 
     private final ManagerService managerService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping("/{userid}")
-    private ResponseEntity<ManagerOutDto> getprofileData(@PathVariable("userid") Long userid){
+    private ResponseEntity<ManagerOutDto> getprofileData(@PathVariable("userid") Long userid,
+                                                         @RequestParam(value = FieldSelection.PARAMETER, required = false) String fields,
+                                                         WebRequest request){
 
-        return ResponseEntity.ok(managerService.getProfileData(userid));
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.profile(userid)), ConditionalGet.PRIVATE,
+                () -> managerService.getProfileData(userid, FieldSelection.of(fields)));
     }
 
 
     @PostMapping("/save")
     private ResponseEntity<ManagerOutDto> saveprofile(@RequestBody ManagerInDto managerInDto){
-        return ResponseEntity.ok(managerService.saveProfileData(managerInDto));
+        ManagerOutDto saved = managerService.saveProfileData(managerInDto);
+        resourceVersions.bump(ResourceVersions.profile(managerInDto.getUserid()));
+        return ResponseEntity.ok(saved);
     }
 
     @GetMapping("/Assigneventlist/{userid}")
-    public ResponseEntity<List<EventOutDto>> AllEvent(@PathVariable String userid){
+    public ResponseEntity<List<EventListProjection>> AllEvent(@PathVariable String userid){
 
         System.out.println("here");
 
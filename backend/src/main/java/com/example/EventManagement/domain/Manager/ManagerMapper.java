@@ -0,0 +1,15 @@
+package com.example.EventManagement.domain.Manager;
+
+import com.example.EventManagement.domain.config.MappingConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+
+@Mapper(config = MappingConfig.class)
+public interface ManagerMapper {
+
+    ManagerOutDto toOutDto(Manager manager);
+
+    Manager toEntity(ManagerInDto managerInDto);
+
+    void updateEntity(ManagerInDto managerInDto, @MappingTarget Manager manager);
+}
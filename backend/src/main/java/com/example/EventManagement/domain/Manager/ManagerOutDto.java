@@ -1,9 +1,12 @@
 package com.example.EventManagement.domain.Manager;
 
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 
 import java.time.LocalDate;
 
+@JsonFilter(FieldSelection.FILTER)
 @Data
 public class ManagerOutDto {
 
@@ -1,8 +1,21 @@
 package com.example.EventManagement.domain.Manager;
 
+import com.example.EventManagement.domain.config.ReadRoutingContext;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+@Transactional(readOnly = true)
 public interface ManagerRepository extends JpaRepository<Manager,Long> {
 
-    Manager findByUserId(Long userId);
+    // the result goes into the query cache, so it is read from the primary
+    default Manager findByUserId(Long userId) {
+        return ReadRoutingContext.cacheLoad(() -> findOneByUserId(userId));
+    }
+
+    // query cache keeps the id, the manager region the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Manager findOneByUserId(Long userId);
 }
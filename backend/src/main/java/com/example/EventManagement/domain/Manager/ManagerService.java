@@ -1,13 +1,14 @@
 package com.example.EventManagement.domain.Manager;
 
-import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventListProjection;
 import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.config.SparseFieldQuery;
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.web.FieldSelection;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -19,8 +20,8 @@ public class ManagerService {
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
 
-    @Autowired
-    private  ModelMapper modelMapper;
+    private final ManagerMapper managerMapper;
+    private final SparseFieldQuery sparseFieldQuery;
 
     public ManagerOutDto getProfileData(Long userid) {
         User user=userRepository.findById(userid).orElseThrow();
@@ -35,7 +36,7 @@ public class ManagerService {
             return temp;
         }
 
-        ManagerOutDto data=modelMapper.map(manager,ManagerOutDto.class);
+        ManagerOutDto data=managerMapper.toOutDto(manager);
 
         data.setEmail(user.getUsername());
         data.setName(user.getName());
@@ -44,9 +45,21 @@ public class ManagerService {
 
     }
 
+    // only the requested columns; a user without a profile gets the usual empty one
+    public ManagerOutDto getProfileData(Long userid, FieldSelection fields) {
+
+        if (fields.isAll()) {
+            return getProfileData(userid);
+        }
+        return sparseFieldQuery.findOne(Manager.class, "user.id", userid, ManagerOutDto.class, fields,
+                        SparseFieldQuery.PROFILE_USER_FIELDS)
+                .orElseGet(() -> getProfileData(userid));
+    }
+
+    @Transactional
     public ManagerOutDto saveProfileData(ManagerInDto managerInDto) {
 
-        Manager manager=modelMapper.map(managerInDto,Manager.class);
+        Manager manager=managerMapper.toEntity(managerInDto);
 
         User user=userRepository.findById(managerInDto.getUserid()).orElseThrow();
 
@@ -58,25 +71,22 @@ public class ManagerService {
             manager.setUser(user);
             Manager saveduser=managerRepository.save(manager);
 
-            return modelMapper.map(saveduser,ManagerOutDto.class);
+            return managerMapper.toOutDto(saveduser);
 
         }else{
 
             // Update existing manager profile
-            modelMapper.map(managerInDto, ExistingMangaer); // copy new fields into existing entity
+            managerMapper.updateEntity(managerInDto, ExistingMangaer); // copy new fields into existing entity
             ExistingMangaer.setUser(user);
             Manager updatedManager = managerRepository.save(ExistingMangaer);
-            return modelMapper.map(updatedManager, ManagerOutDto.class);
+            return managerMapper.toOutDto(updatedManager);
         }
 
 
     }
 
-    public List<EventOutDto> listAllAssignedEvent(String userid) {
+    public List<EventListProjection> listAllAssignedEvent(String userid) {
 
-        return eventRepository.findByAssignedEventsManager(userid)
-                .stream()
-                .map(event -> modelMapper.map(event, EventOutDto.class))
-                .toList();
+        return eventRepository.findByAssignedEventsManager(Long.parseLong(userid));
     }
 }
@@ -3,10 +3,14 @@ package com.example.EventManagement.domain.Organizer;
 import com.example.EventManagement.domain.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "organizer")
 @Table(name="Organizer")
 @Getter
 @Setter
@@ -17,7 +21,8 @@ import java.time.LocalDate;
 public class Organizer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "organizer_seq")
+    @SequenceGenerator(name = "organizer_seq", sequenceName = "organizer_seq", allocationSize = 50)
     private Long id;
 
 //    name: userdata?.name || '',
@@ -72,8 +77,9 @@ public class Organizer {
     private String emergencyContactRelation;
 
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id" ,referencedColumnName = "id")
+    @ToString.Exclude
     private User user;
 
 
@@ -1,8 +1,12 @@
 package com.example.EventManagement.domain.Organizer;
 
+import com.example.EventManagement.domain.web.ConditionalGet;
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.example.EventManagement.domain.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("Organizer")
@@ -10,17 +14,23 @@ import org.springframework.web.bind.annotation.*;
 public class OrganizerController {
 
     private final OrganizerService organizerService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping("/{userid}")
-    private ResponseEntity<OrganizerOutDto> getOrganizerProfile(@PathVariable("userid") Long userid){
-        return ResponseEntity.ok(organizerService.getOrganizerProfile(userid));
+    private ResponseEntity<OrganizerOutDto> getOrganizerProfile(@PathVariable("userid") Long userid,
+                                                                @RequestParam(value = FieldSelection.PARAMETER, required = false) String fields,
+                                                                WebRequest request){
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.profile(userid)), ConditionalGet.PRIVATE,
+                () -> organizerService.getOrganizerProfile(userid, FieldSelection.of(fields)));
 
     }
 
     @PostMapping("/save")
     private ResponseEntity<OrganizerOutDto> saveOrganizerProfile(@RequestBody OrganizerInDto organizerInDto){
 
-        return ResponseEntity.ok(organizerService.saveOrganizerProfile(organizerInDto));
+        OrganizerOutDto saved = organizerService.saveOrganizerProfile(organizerInDto);
+        resourceVersions.bump(ResourceVersions.profile(organizerInDto.getUsertestid()));
+        return ResponseEntity.ok(saved);
     }
 
 
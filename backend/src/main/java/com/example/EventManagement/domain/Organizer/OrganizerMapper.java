@@ -0,0 +1,10 @@
+package com.example.EventManagement.domain.Organizer;
+
+import com.example.EventManagement.domain.config.MappingConfig;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface OrganizerMapper {
+
+    OrganizerOutDto toOutDto(Organizer organizer);
+}
@@ -1,8 +1,21 @@
 package com.example.EventManagement.domain.Organizer;
 
+import com.example.EventManagement.domain.config.ReadRoutingContext;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+@Transactional(readOnly = true)
 public interface OrganizerRepository extends JpaRepository<Organizer ,Long> {
 
-    Organizer findByUserId(Long userId);
+    // the result goes into the query cache, so it is read from the primary
+    default Organizer findByUserId(Long userId) {
+        return ReadRoutingContext.cacheLoad(() -> findOneByUserId(userId));
+    }
+
+    // query cache keeps the id, the organizer region the row
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Organizer findOneByUserId(Long userId);
 }
@@ -1,11 +1,12 @@
 package com.example.EventManagement.domain.Organizer;
 
+import com.example.EventManagement.domain.config.SparseFieldQuery;
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.web.FieldSelection;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,8 +16,9 @@ public class OrganizerService {
 
     private final OrganizerRepository organizerRepository;
 
-    @Autowired
-    private ModelMapper modelMapper;
+    private final OrganizerMapper organizerMapper;
+
+    private final SparseFieldQuery sparseFieldQuery;
 
     public OrganizerOutDto getOrganizerProfile(Long userid) {
 
@@ -35,7 +37,7 @@ public class OrganizerService {
 
         }
 
-        OrganizerOutDto data=modelMapper.map(organizer ,OrganizerOutDto.class);
+        OrganizerOutDto data=organizerMapper.toOutDto(organizer);
 
         data.setEmail(user.getUsername());
         data.setName(user.getName());
@@ -44,6 +46,18 @@ public class OrganizerService {
     }
 
 
+    // only the requested columns; a user without a profile gets the usual empty one
+    public OrganizerOutDto getOrganizerProfile(Long userid, FieldSelection fields) {
+
+        if (fields.isAll()) {
+            return getOrganizerProfile(userid);
+        }
+        return sparseFieldQuery.findOne(Organizer.class, "user.id", userid, OrganizerOutDto.class, fields,
+                        SparseFieldQuery.PROFILE_USER_FIELDS)
+                .orElseGet(() -> getOrganizerProfile(userid));
+    }
+
+
     public Organizer convertToEntity(OrganizerInDto dto, User user) {
         Organizer organizer = new Organizer();
 
@@ -78,6 +92,7 @@ public class OrganizerService {
     }
 
 
+    @Transactional
     public OrganizerOutDto saveOrganizerProfile(OrganizerInDto dto) {
         // fetch User
         User user = userRepository.findById(dto.getUsertestid())
@@ -98,7 +113,7 @@ public class OrganizerService {
 
         Organizer saved = organizerRepository.save(organizer);
 
-        return modelMapper.map(saved, OrganizerOutDto.class); // or map manually too
+        return organizerMapper.toOutDto(saved);
     }
 
 }
@@ -0,0 +1,104 @@
+package com.example.EventManagement.domain.Student;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Per-event seat counters so a registration rush is admitted with a compare-and-set instead
+// of a lock on the event row. A counter is seeded from the table the first time its event is
+// registered for; from then on every registration that takes a seat goes through tryAcquire,
+// and every one that moves to REJECTED gives its seat back through statusChanged.
+// The counters live in this process, so this only holds while a single instance takes registrations.
+@Component
+@RequiredArgsConstructor
+public class EventCapacityGate {
+
+    private final StudentEventRegisterRepository studentEventRegisterRepository;
+
+    private final ConcurrentMap<Long, AtomicInteger> taken = new ConcurrentHashMap<>();
+
+    // capacity null means the event has no limit; the seat is still counted so the counter
+    // stays right if a limit is set later
+    public boolean tryAcquire(Long eventId, Integer capacity) {
+
+        AtomicInteger seats = taken.computeIfAbsent(eventId,
+                id -> new AtomicInteger((int) studentEventRegisterRepository.countSeatsTaken(id)));
+
+        int current;
+        do {
+            current = seats.get();
+            if (capacity != null && current >= capacity) {
+                return false;
+            }
+        } while (!seats.compareAndSet(current, current + 1));
+
+        releaseOnRollback(eventId);
+        return true;
+    }
+
+    // a rejected applicant holds no seat
+    public static boolean holdsSeat(String status) {
+        return !"REJECTED".equalsIgnoreCase(status);
+    }
+
+    // For a status change of an existing registration. Leaving REJECTED takes a seat again and
+    // returns false when the event is full; moving to REJECTED frees the seat once the change
+    // has committed.
+    public boolean statusChanged(Long eventId, Integer capacity, String previousStatus, String newStatus) {
+        boolean held = holdsSeat(previousStatus);
+        boolean holds = holdsSeat(newStatus);
+        if (!held && holds) {
+            return tryAcquire(eventId, capacity);
+        }
+        if (held && !holds) {
+            releaseOnCommit(eventId);
+        }
+        return true;
+    }
+
+    public void release(Long eventId) {
+        AtomicInteger seats = taken.get(eventId);
+        if (seats != null) {
+            seats.decrementAndGet();
+        }
+    }
+
+    public int taken(Long eventId) {
+        AtomicInteger seats = taken.get(eventId);
+        return seats == null ? 0 : seats.get();
+    }
+
+    // released right away, the seat would be handed out again even if the rejection rolled back
+    private void releaseOnCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(eventId);
+            }
+        });
+    }
+
+    // a seat whose row never commits (duplicate, constraint violation, any rollback) is handed back
+    private void releaseOnRollback(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(eventId);
+                }
+            }
+        });
+    }
+}
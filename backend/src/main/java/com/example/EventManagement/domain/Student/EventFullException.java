@@ -0,0 +1,8 @@
+package com.example.EventManagement.domain.Student;
+
+public class EventFullException extends RuntimeException {
+
+    public EventFullException(Long eventId) {
+        super("Event " + eventId + " has no places left");
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.EventManagement.domain.Student;
 
-import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventListProjection;
+import com.example.EventManagement.domain.web.ConditionalGet;
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.example.EventManagement.domain.web.ResourceVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -16,16 +20,22 @@ public class StudentController {
 
 
     private final StudentService studentService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping("/{userid}")
-    private ResponseEntity<StudentOutDto> getprofile(@PathVariable("userid") Long userid){
-        return ResponseEntity.ok(studentService.getprofile(userid));
+    private ResponseEntity<StudentOutDto> getprofile(@PathVariable("userid") Long userid,
+                                                     @RequestParam(value = FieldSelection.PARAMETER, required = false) String fields,
+                                                     WebRequest request){
+        return ConditionalGet.ok(request, resourceVersions.etag(ResourceVersions.profile(userid)), ConditionalGet.PRIVATE,
+                () -> studentService.getprofile(userid, FieldSelection.of(fields)));
     }
 
 
     @PostMapping("/save")
     private ResponseEntity<StudentOutDto> saveprofile(@RequestBody StudentInDto studentInDto){
-        return ResponseEntity.ok(studentService.saveProfile(studentInDto));
+        StudentOutDto saved = studentService.saveProfile(studentInDto);
+        resourceVersions.bump(ResourceVersions.profile(Long.parseLong(studentInDto.getUserid())));
+        return ResponseEntity.ok(saved);
     }
 
     @GetMapping("/GetprofileCompleted/{userid}/{eventid}")
@@ -42,7 +52,7 @@ public class StudentController {
 
 
     @GetMapping("/Assigneventlist/{userid}")
-    public ResponseEntity<List<EventOutDto>> AllEvent(@PathVariable String userid){
+    public ResponseEntity<List<EventListProjection>> AllEvent(@PathVariable String userid){
 
         return ResponseEntity.ok(studentService.listAllAssignedEvent(userid));
     }
@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name="StudentEventRegister")
+@Table(name="StudentEventRegister",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ser_event_user", columnNames = {"event_id", "user_id"}))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,15 +17,20 @@ import lombok.*;
 public class StudentEventRegister {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_event_register_seq")
+    @SequenceGenerator(name = "student_event_register_seq", sequenceName = "student_event_register_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    // lazy: a registration is mostly read for its own columns, and the event row carries the
+    // 2000-char description
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
+    @ToString.Exclude
     private Event event;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @ToString.Exclude
     private User user;
 
     private String prevExp;
@@ -1,13 +1,37 @@
 package com.example.EventManagement.domain.Student;
 
-import com.example.EventManagement.domain.Event.Event;
-import com.example.EventManagement.domain.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+@Transactional(readOnly = true)
 public interface StudentEventRegisterRepository extends JpaRepository<StudentEventRegister ,Long> {
 
-    Optional<StudentEventRegister> findByUserAndEvent(User user, Event event);
+    // by the foreign key columns, so neither users nor events is joined. Not locking: on MySQL a
+    // locking read that finds no row gap-locks uk_ser_event_user, and two first registrations
+    // for one event would then deadlock on each other's insert
+    @Query("SELECT r.id FROM StudentEventRegister r WHERE r.user.id = :userId AND r.event.id = :eventId")
+    Optional<Long> findIdByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    // by primary key, so only the row itself is locked, until the caller's transaction ends: a
+    // re-registration reads the status it replaces
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query("SELECT r FROM StudentEventRegister r WHERE r.id = :id")
+    Optional<StudentEventRegister> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("SELECT COUNT(r) > 0 FROM StudentEventRegister r WHERE r.user.id = :userId AND r.event.id = :eventId")
+    boolean existsByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
+
+    // rejected registrations give their seat back, see EventCapacityGate
+    @Query("SELECT COUNT(r) FROM StudentEventRegister r WHERE r.event.id = :eventId " +
+            "AND (r.status IS NULL OR UPPER(r.status) <> 'REJECTED')")
+    long countSeatsTaken(@Param("eventId") Long eventId);
 
 }
@@ -0,0 +1,16 @@
+package com.example.EventManagement.domain.Student;
+
+import com.example.EventManagement.domain.config.MappingConfig;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface StudentMapper {
+
+    StudentOutDto toOutDto(Student student);
+
+    Student toEntity(StudentInDto studentInDto);
+
+    StudentEventRegisterOutDto toOutDto(StudentEventRegister studentEventRegister);
+
+    StudentEventRegister toEntity(StudentEventRegisterInDto studentEventRegisterInDto);
+}
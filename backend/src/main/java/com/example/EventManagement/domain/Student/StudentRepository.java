@@ -1,9 +1,18 @@
 package com.example.EventManagement.domain.Student;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
+@Transactional(readOnly = true)
 public interface StudentRepository extends JpaRepository<Student ,Long> {
 
     // 2. Find profile by User id
     Student findByUserId(Long userId);
+
+    // profile and its user in one select, for the calls that need both
+    @EntityGraph(attributePaths = "user")
+    Optional<Student> findWithUserByUserId(Long userId);
 }
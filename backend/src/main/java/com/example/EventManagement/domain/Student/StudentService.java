@@ -1,19 +1,22 @@
 package com.example.EventManagement.domain.Student;
 
 import com.example.EventManagement.domain.Event.Event;
-import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventListProjection;
 import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SparseFieldQuery;
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.studentEventRegister.EventRegistrationStatsService;
+import com.example.EventManagement.domain.web.FieldSelection;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
 @Service
@@ -26,17 +29,23 @@ public class StudentService {
 
     private final EventRepository eventRepository;
 
-    @Autowired
-    private ModelMapper modelMapper;
+    private final StudentMapper studentMapper;
 
+    private final EventCapacityGate eventCapacityGate;
 
-    public StudentOutDto getprofile(Long userid) {
+    private final EventRegistrationStatsService registrationStatsService;
+
+    private final SparseFieldQuery sparseFieldQuery;
+
+    private final SingleFlight singleFlight;
 
-        User user=userRepository.findById(userid).orElseThrow();
 
-        Student student=studentRepository.findByUserId(userid);
+    public StudentOutDto getprofile(Long userid) {
 
+        Student student=studentRepository.findWithUserByUserId(userid).orElse(null);
 
+        // without a profile the user still has to exist
+        User user=student == null ? userRepository.findById(userid).orElseThrow() : student.getUser();
 
         if (student == null) {
             // return an empty StudentOutDto
@@ -49,7 +58,7 @@ public class StudentService {
 
         }
 
-        StudentOutDto data=modelMapper.map(student,StudentOutDto.class);
+        StudentOutDto data=studentMapper.toOutDto(student);
 
         data.setEmail(user.getUsername());
         data.setName(user.getName());
@@ -60,24 +69,36 @@ public class StudentService {
 
     }
 
+    // only the requested columns; a user without a profile gets the usual empty one
+    public StudentOutDto getprofile(Long userid, FieldSelection fields) {
+
+        if (fields.isAll()) {
+            return getprofile(userid);
+        }
+        return sparseFieldQuery.findOne(Student.class, "user.id", userid, StudentOutDto.class, fields,
+                        SparseFieldQuery.PROFILE_USER_FIELDS)
+                .orElseGet(() -> getprofile(userid));
+    }
+
     public StudentOutDto saveProfile(StudentInDto studentInDto) {
 
-        Student student=modelMapper.map(studentInDto,Student.class);
+        Student student=studentMapper.toEntity(studentInDto);
+
+        Long userid=Long.parseLong(studentInDto.getUserid());
+        Student existingStudent =studentRepository.findWithUserByUserId(userid).orElse(null);
 
-        User user=userRepository.findById(Long.parseLong(studentInDto.getUserid())).orElseThrow();
+        User user=existingStudent == null ? userRepository.findById(userid).orElseThrow() : existingStudent.getUser();
 
         user.setProfileCompleted(studentInDto.getProfileCompleted());
         userRepository.save(user);
 
-        Student existingStudent =studentRepository.findByUserId(user.getId());
-
 
 
         if(existingStudent ==null){
 
             student.setUser(user);
             Student saved = studentRepository.save(student);
-            return modelMapper.map(saved, StudentOutDto.class);
+            return studentMapper.toOutDto(saved);
 
 
 
@@ -107,7 +128,7 @@ public class StudentService {
             existingStudent.setEmergencyContactRelation(student.getEmergencyContactRelation());
 
             Student updated = studentRepository.save(existingStudent);
-            return modelMapper.map(updated, StudentOutDto.class);
+            return studentMapper.toOutDto(updated);
         }
 
 
@@ -123,13 +144,15 @@ public class StudentService {
     public Map<String, Object> getprofilecompleted(Long userid,String eventid) {
         User user=userRepository.findById(userid).orElseThrow();
 
-        Event event=eventRepository.findById(Long.parseLong(eventid)).orElseThrow();
-
-        Optional<StudentEventRegister> existing = studentEventRegisterRepository.findByUserAndEvent(user, event);
+        // only the ids matter here, so neither the event nor the registration is loaded
+        Long eventId=Long.parseLong(eventid);
+        if (!eventRepository.existsById(eventId)) {
+            throw new NoSuchElementException("No event " + eventId);
+        }
 
         Map<String, Object> response = new HashMap<>();
         response.put("profileCompleted", user.getProfileCompleted());
-        if (existing.isPresent()) {
+        if (studentEventRegisterRepository.existsByUserIdAndEventId(userid, eventId)) {
 
             response.put("alreadyApplied", true);
 
@@ -147,19 +170,31 @@ public class StudentService {
     @Transactional
     public StudentEventRegisterOutDto registerForEvent(StudentEventRegisterInDto studentEventRegisterInDto) {
 
-        StudentEventRegister studentEventRegister=modelMapper.map(studentEventRegisterInDto,StudentEventRegister.class);
-
-        User user=userRepository.findById(Long.parseLong(  studentEventRegisterInDto.getUserid())).orElseThrow();
-
-        Event event=eventRepository.findById(Long.parseLong(studentEventRegisterInDto.getEventid())).orElseThrow();
+        StudentEventRegister studentEventRegister=studentMapper.toEntity(studentEventRegisterInDto);
 
+        Long userId=Long.parseLong(studentEventRegisterInDto.getUserid());
+        Long eventId=Long.parseLong(studentEventRegisterInDto.getEventid());
 
-        Optional<StudentEventRegister> existing = studentEventRegisterRepository.findByUserAndEvent(user, event);
+        // an existing registration proves both rows exist, so user and event are only loaded for a new one.
+        // Only an existing row is locked; a concurrent first registration of the same student is
+        // stopped by uk_ser_event_user instead
+        Optional<StudentEventRegister> existing = studentEventRegisterRepository.findIdByUserIdAndEventId(userId, eventId)
+                .flatMap(studentEventRegisterRepository::findByIdForUpdate);
 
         StudentEventRegister savedRegister;
         if (existing.isPresent()) {
             // update existing registration
             StudentEventRegister existingRegister = existing.get();
+            String previousStatus = existingRegister.getStatus();
+            // a rejected applicant who applies again needs a free seat; the event is only read then
+            if (!EventCapacityGate.holdsSeat(previousStatus) && EventCapacityGate.holdsSeat(studentEventRegister.getStatus())) {
+                Event event = eventRepository.findById(eventId).orElseThrow();
+                if (!eventCapacityGate.statusChanged(eventId, event.getRequiredVolunteer(), previousStatus, studentEventRegister.getStatus())) {
+                    throw new EventFullException(eventId);
+                }
+            } else {
+                eventCapacityGate.statusChanged(eventId, null, previousStatus, studentEventRegister.getStatus());
+            }
             existingRegister.setPrevExp(studentEventRegister.getPrevExp());
             existingRegister.setReasonforevent(studentEventRegister.getReasonforevent());
             existingRegister.setSkills(studentEventRegister.getSkills());
@@ -171,27 +206,35 @@ public class StudentService {
             existingRegister.setStatus(studentEventRegister.getStatus());
 
             savedRegister = studentEventRegisterRepository.save(existingRegister);
+            registrationStatsService.statusChanged(eventId, previousStatus, savedRegister.getStatus());
         } else {
-            // create new registration
+            User user=userRepository.findById(userId).orElseThrow();
+            Event event=eventRepository.findById(eventId).orElseThrow();
+
+            // create new registration; the seat is taken before the insert and handed back if it
+            // rolls back, e.g. when a concurrent request for the same student hits uk_ser_event_user
+            if (EventCapacityGate.holdsSeat(studentEventRegister.getStatus())
+                    && !eventCapacityGate.tryAcquire(event.getId(), event.getRequiredVolunteer())) {
+                throw new EventFullException(event.getId());
+            }
             studentEventRegister.setUser(user);
             studentEventRegister.setEvent(event);
-            savedRegister = studentEventRegisterRepository.save(studentEventRegister);
+            savedRegister = studentEventRegisterRepository.saveAndFlush(studentEventRegister);
+            registrationStatsService.registered(event.getId(), savedRegister.getStatus());
         }
+        singleFlight.forget(SingleFlight.EVENT_REGISTRATIONS, eventId);
 
         // convert back to OutDto
-        return modelMapper.map(savedRegister, StudentEventRegisterOutDto.class);
+        return studentMapper.toOutDto(savedRegister);
 
 
 
 
     }
 
-    public List<EventOutDto> listAllAssignedEvent(String userid) {
+    public List<EventListProjection> listAllAssignedEvent(String userid) {
 
 
-        return eventRepository.findByAssignedEventsStudent(userid)
-                .stream()
-                .map(event -> modelMapper.map(event, EventOutDto.class))
-                .toList();
+        return eventRepository.findByAssignedEventsStudent(userid);
     }
 }
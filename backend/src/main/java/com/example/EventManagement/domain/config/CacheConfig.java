@@ -0,0 +1,19 @@
+package com.example.EventManagement.domain.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+// Caffeine caches configured through spring.cache.* in application.properties.
+// Event writes are evicted after the repository save has committed, never before: the cache
+// advice runs outside the transaction advice, so a @Transactional write evicts once it commits.
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String EVENTS = "events";
+    public static final String EVENT_DETAILS = "eventDetails";
+    public static final String EVENT_LIST = "eventList";
+
+    public static final String EVENT_LIST_KEY = "'all'";
+}
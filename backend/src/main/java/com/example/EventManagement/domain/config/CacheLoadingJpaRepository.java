@@ -0,0 +1,32 @@
+package com.example.EventManagement.domain.config;
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+// Base class of every repository. Rows of a @Cacheable entity loaded by id go into its
+// second-level region, so those loads read the primary (ReadRoutingContext.cacheLoad); the
+// cached queries do the same in their own repositories.
+public class CacheLoadingJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> {
+
+    private final boolean cached;
+
+    public CacheLoadingJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.cached = entityInformation.getJavaType().isAnnotationPresent(Cacheable.class);
+    }
+
+    @Override
+    public Optional<T> findById(ID id) {
+        return cached ? ReadRoutingContext.cacheLoad(() -> super.findById(id)) : super.findById(id);
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<ID> ids) {
+        return cached ? ReadRoutingContext.cacheLoad(() -> super.findAllById(ids)) : super.findAllById(ids);
+    }
+}
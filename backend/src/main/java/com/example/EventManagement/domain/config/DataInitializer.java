@@ -10,6 +10,7 @@ import com.example.EventManagement.domain.entity.type.AuthProviderType;
 import com.example.EventManagement.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// small demo fixture; with app.seed.enabled SyntheticDataGenerator seeds instead
 @Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "false", matchIfMissing = true)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
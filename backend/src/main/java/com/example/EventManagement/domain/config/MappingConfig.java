@@ -0,0 +1,14 @@
+package com.example.EventManagement.domain.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+// Shared settings for the generated DTO mappers: only same-named properties are copied
+// (nulls included), which is what the old ModelMapper bean did for these classes.
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        builder = @Builder(disableBuilder = true))
+public interface MappingConfig {
+}
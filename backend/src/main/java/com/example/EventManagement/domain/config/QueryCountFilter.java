@@ -0,0 +1,91 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Per-request SQL totals, tagged like http.server.requests (method, uri pattern):
+//   http.server.requests.queries  statements per request
+//   http.server.requests.rows     rows read per request
+//   http.server.requests.jdbc     time spent in JDBC per request
+// Runs first, so the security filters' lookups are counted too. Each request also gets a DEBUG
+// line, or a WARN once it passes app.query-count.warn-threshold.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean captureStatements;
+
+    public QueryCountFilter(MeterRegistry meterRegistry,
+                            @Value("${app.query-count.warn-threshold:20}") int warnThreshold,
+                            @Value("${app.query-count.capture-statements:false}") boolean captureStatements) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.captureStatements = captureStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RequestQueryStats stats = RequestQueryStats.begin(captureStatements);
+        request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        // the mapped pattern, not the raw path, so ids do not turn into tags
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.queries")
+                .description("SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getQueries());
+        DistributionSummary.builder("http.server.requests.rows")
+                .description("Rows read per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.requests.jdbc")
+                .description("Time spent in JDBC per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getQueries() > warnThreshold) {
+            log.warn("{} {} ran {} queries, read {} rows, {} ms in JDBC", request.getMethod(), uri,
+                    stats.getQueries(), stats.getRows(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} ran {} queries, read {} rows, {} ms in JDBC", request.getMethod(), uri,
+                    stats.getQueries(), stats.getRows(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.EventManagement.domain.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+// Wraps the DataSource in a datasource-proxy that charges every statement, its time and the
+// rows read from its result sets to the current request's RequestQueryStats. Outside a
+// request (startup, schedulers) nothing is recorded.
+@Component
+@ConditionalOnProperty(name = "app.query-count.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        StatementCounter counter = new StatementCounter();
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(counter)
+                .methodListener(counter)
+                .proxyResultSet()
+                .build();
+    }
+
+    static class StatementCounter implements QueryExecutionListener, MethodExecutionListener {
+
+        private static final String STARTED = "queryCount.started";
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (RequestQueryStats.current() != null) {
+                execInfo.addCustomValue(STARTED, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestQueryStats stats = RequestQueryStats.current();
+            Long started = execInfo.getCustomValue(STARTED, Long.class);
+            if (stats == null || started == null) {
+                return;
+            }
+            stats.recordQuery(System.nanoTime() - started, queryInfoList.stream().map(QueryInfo::getQuery).toList());
+        }
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        // a row is counted each time ResultSet.next() moves onto one
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                RequestQueryStats stats = RequestQueryStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.error.FanOutTimeoutException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Runs independent read queries of one request side by side. Each call runs outside the
+// caller's transaction, so it borrows its own pooled connection just for that query. The pool
+// never has more threads than half of Hikari's connections, so a burst of fan-outs cannot
+// starve plain requests; once its queue is full the caller runs the query itself.
+//
+// The future stops waiting after app.fan-out.timeout-ms, but the query it ran would keep its
+// connection until the database is done with it. Each call therefore runs in a read-only
+// transaction with the same timeout, which Spring hands to every query of the call as its
+// jakarta.persistence.query.timeout, so the driver cancels the statement too. Transaction
+// timeouts are whole seconds; a timeout-ms that is not is rounded up.
+@Component
+public class QueryFanOut {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transaction;
+    private final long timeoutMs;
+
+    // without a transaction manager the queries are not cancelled, only no longer waited for
+    public QueryFanOut(int connectionPoolSize, int threads, int queueCapacity, long timeoutMs) {
+        this(connectionPoolSize, threads, queueCapacity, timeoutMs, null);
+    }
+
+    @Autowired
+    public QueryFanOut(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+                       @Value("${app.fan-out.threads:0}") int threads,
+                       @Value("${app.fan-out.queue-capacity:100}") int queueCapacity,
+                       @Value("${app.fan-out.timeout-ms:2000}") long timeoutMs,
+                       PlatformTransactionManager transactionManager) {
+
+        int limit = Math.max(1, connectionPoolSize / 2);
+        int size = threads <= 0 ? limit : Math.min(threads, limit);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // queries run here still count against the request that fanned them out, and route
+        // like its own reads
+        executor.setTaskDecorator(task -> RequestQueryStats.propagate(ReadRoutingContext.propagate(task)));
+        executor.initialize();
+        this.timeoutMs = timeoutMs;
+
+        if (transactionManager == null) {
+            this.transaction = null;
+        } else {
+            this.transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+            transaction.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+        }
+    }
+
+    public <T> CompletableFuture<T> call(Supplier<T> query) {
+        Supplier<T> timed = transaction == null ? query : () -> transaction.execute(status -> query.get());
+        return CompletableFuture.supplyAsync(timed, executor).orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // rethrows what the query threw, or FanOutTimeoutException once it ran past the timeout
+    public <T> T await(CompletableFuture<T> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TimeoutException) {
+                throw new FanOutTimeoutException(timeoutMs);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public int poolSize() {
+        return executor.getMaxPoolSize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
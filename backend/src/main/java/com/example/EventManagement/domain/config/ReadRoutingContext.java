@@ -0,0 +1,89 @@
+package com.example.EventManagement.domain.config;
+
+import java.util.function.Supplier;
+
+// Who the current request is for, and whether its reads must stay on the primary because the
+// client wrote recently. ReadYourWritesFilter opens it after authentication and QueryFanOut
+// carries it to its workers.
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<ReadRoutingContext> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> CACHE_LOAD = new ThreadLocal<>();
+
+    private final String client;
+    private volatile boolean pinnedToPrimary;
+
+    ReadRoutingContext(String client, boolean pinnedToPrimary) {
+        this.client = client;
+        this.pinnedToPrimary = pinnedToPrimary;
+    }
+
+    public static ReadRoutingContext current() {
+        return CURRENT.get();
+    }
+
+    static ReadRoutingContext begin(String client, boolean pinnedToPrimary) {
+        ReadRoutingContext context = new ReadRoutingContext(client, pinnedToPrimary);
+        CURRENT.set(context);
+        return context;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // task decorator: the task routes its reads like the thread that submitted it
+    public static Runnable propagate(Runnable task) {
+        ReadRoutingContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            ReadRoutingContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    // A load whose result is cached reads the primary: a row read from a lagging replica would
+    // stay in the cache long after the replica caught up. Only decides the pool of a transaction
+    // that has not run a statement yet, so call it around the repository call itself.
+    public static <T> T cacheLoad(Supplier<T> load) {
+        Boolean previous = CACHE_LOAD.get();
+        CACHE_LOAD.set(Boolean.TRUE);
+        try {
+            return load.get();
+        } finally {
+            if (previous == null) {
+                CACHE_LOAD.remove();
+            } else {
+                CACHE_LOAD.set(previous);
+            }
+        }
+    }
+
+    static boolean isCacheLoad() {
+        return CACHE_LOAD.get() != null;
+    }
+
+    public String getClient() {
+        return client;
+    }
+
+    public boolean isPinnedToPrimary() {
+        return pinnedToPrimary;
+    }
+
+    // the rest of the request reads what it just wrote
+    void pinToPrimary() {
+        pinnedToPrimary = true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.EventManagement.domain.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Clients that wrote within app.datasource.replica.sticky-ms, so their reads skip the replica
+// until it has caught up. Kept per instance: behind a load balancer the same client has to stay
+// on one instance for this to hold.
+@Component
+public class ReadYourWrites {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    @Autowired
+    public ReadYourWrites(ReplicaProperties properties) {
+        this(properties, Ticker.systemTicker());
+    }
+
+    ReadYourWrites(ReplicaProperties properties, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxStickyClients())
+                .expireAfterWrite(Duration.ofMillis(properties.getStickyMs()))
+                .ticker(ticker)
+                .build();
+    }
+
+    public void wrote(String client) {
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    public boolean wroteRecently(String client) {
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.security.ClientKey;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Opens the ReadRoutingContext for the request, right after JwtAuthFilter so a signed-in client
+// is known by its username. A client that wrote recently reads from the primary for the whole
+// request. Does nothing while replica routing is off.
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReplicaProperties properties;
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String client = ClientKey.of(request);
+        ReadRoutingContext.begin(client, readYourWrites.wroteRecently(client));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.end();
+        }
+    }
+}
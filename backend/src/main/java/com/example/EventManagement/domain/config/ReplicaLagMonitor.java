@@ -0,0 +1,100 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Polls the replica every app.datasource.replica.lag-check-ms and decides whether reads may go
+// there. Until the first check has passed, and whenever the replica is too far behind or does
+// not answer, it is not usable and reads fall back to the primary.
+@Slf4j
+class ReplicaLagMonitor implements AutoCloseable {
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final ScheduledExecutorService scheduler;
+
+    // last measured delay, NaN while the replica does not answer
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean usable;
+
+    ReplicaLagMonitor(DataSource replica, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        // without a query the replica could only be asked whether it answers, and one that has
+        // stopped replicating answers too
+        if (!StringUtils.hasText(properties.getLagQuery())) {
+            throw new IllegalStateException("app.datasource.replica.lag-query is required when app.datasource.replica.enabled is on");
+        }
+        this.replica = replica;
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagMs = properties.getMaxLagMs();
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Seconds the read replica is behind the primary")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "replica-lag");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::check, 0, properties.getLagCheckMs(), TimeUnit.MILLISECONDS);
+    }
+
+    boolean isUsable() {
+        return usable;
+    }
+
+    synchronized void check() {
+        boolean wasUsable = usable;
+        try {
+            lagSeconds = measure();
+            usable = lagSeconds * 1000 <= maxLagMs;
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Read replica lag check failed, reading from the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable != usable) {
+            if (usable) {
+                log.info("Read replica is {}s behind, routing reads to it", lagSeconds);
+            } else {
+                log.warn("Read replica is {}s behind, reading from the primary", lagSeconds);
+            }
+        }
+    }
+
+    private double measure() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // no row or NULL: replication is not running, so the delay is unknown
+            if (!resultSet.next()) {
+                throw new SQLException("lag query returned no row");
+            }
+            double lag = resultSet.getDouble(1);
+            if (resultSet.wasNull()) {
+                throw new SQLException("lag query returned NULL");
+            }
+            return Math.max(0, lag);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.EventManagement.domain.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// app.datasource.replica.* - read replica behind ReplicaRoutingDataSource. The primary stays
+// configured through spring.datasource.*; pool settings for the replica go under
+// app.datasource.replica.hikari.*.
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Getter
+@Setter
+public class ReplicaProperties {
+
+    // off: a single spring.datasource pool, as before
+    private boolean enabled = false;
+
+    private String url;
+
+    // default to the primary's credentials when left empty
+    private String username;
+    private String password;
+
+    // reads go back to the primary while the replica is further behind than this, or unreachable
+    private long maxLagMs = 5_000;
+
+    // returns the replica's delay in seconds, e.g. from a pt-heartbeat table:
+    //   SELECT TIMESTAMPDIFF(SECOND, MAX(ts), UTC_TIMESTAMP()) FROM percona.heartbeat
+    // required when enabled; startup fails without it
+    private String lagQuery;
+
+    private long lagCheckMs = 1_000;
+
+    // after a client writes, its reads stay on the primary for this long
+    private long stickyMs = 5_000;
+
+    private long maxStickyClients = 100_000;
+}
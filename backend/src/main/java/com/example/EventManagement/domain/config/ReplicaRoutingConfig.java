@@ -0,0 +1,62 @@
+package com.example.EventManagement.domain.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+// Replaces Boot's single pool with ReplicaRoutingDataSource when app.datasource.replica.enabled
+// is on. Both Hikari pools live inside that one bean, so QueryCountingDataSourcePostProcessor
+// wraps it once and every statement is counted once, whichever pool ran it.
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties primaryProperties, ReplicaProperties replicaProperties,
+                                 ReadYourWrites readYourWrites, Environment environment, MeterRegistry meterRegistry) {
+
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setJdbcUrl(replicaProperties.getUrl());
+        replica.setUsername(StringUtils.hasText(replicaProperties.getUsername())
+                ? replicaProperties.getUsername() : primaryProperties.determineUsername());
+        replica.setPassword(StringUtils.hasText(replicaProperties.getPassword())
+                ? replicaProperties.getPassword() : primaryProperties.determinePassword());
+        replica.setDriverClassName(primaryProperties.determineDriverClassName());
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(replica, replicaProperties, meterRegistry);
+        return new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry);
+    }
+
+    // Spring holds a session's connection until the session closes, which with open-in-view is
+    // the end of the request: the first transaction's pool would serve every later one. Handing
+    // it back after each transaction lets each pick its own.
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
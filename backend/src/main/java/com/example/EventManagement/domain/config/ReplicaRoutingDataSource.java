@@ -0,0 +1,122 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Sends read-only transactions to the replica and everything else to the primary. The
+// repositories behind the read endpoints are @Transactional(readOnly = true), so their finders
+// and queries go to the replica unless a read-write transaction is already open: a service's
+// @Transactional method, and the CRUD writes, stay on the primary.
+//
+// Reads stay on the primary while the replica is behind (ReplicaLagMonitor), and for a client
+// that wrote within the sticky window (ReadYourWrites), so it always sees its own changes.
+// Loads that fill a cache read the primary too (ReadRoutingContext.cacheLoad).
+//
+// The pool is chosen when the first statement runs rather than when the transaction begins:
+// JPA takes its connection before Spring has marked the transaction read-only.
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                             ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+
+        Router router = new Router(lagMonitor, readYourWrites, meterRegistry);
+        router.setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        setTargetDataSource(router);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagMonitor.close();
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    static class Router extends AbstractRoutingDataSource {
+
+        private final ReplicaLagMonitor lagMonitor;
+        private final ReadYourWrites readYourWrites;
+
+        // datasource.routing{target, reason}: where connections went and why
+        private final Counter writes;
+        private final Counter outsideTransaction;
+        private final Counter sticky;
+        private final Counter cacheLoad;
+        private final Counter replicaBehind;
+        private final Counter reads;
+
+        Router(ReplicaLagMonitor lagMonitor, ReadYourWrites readYourWrites, MeterRegistry meterRegistry) {
+            this.lagMonitor = lagMonitor;
+            this.readYourWrites = readYourWrites;
+            this.writes = counter(meterRegistry, Target.PRIMARY, "write");
+            this.outsideTransaction = counter(meterRegistry, Target.PRIMARY, "no-transaction");
+            this.sticky = counter(meterRegistry, Target.PRIMARY, "read-your-writes");
+            this.cacheLoad = counter(meterRegistry, Target.PRIMARY, "cache-load");
+            this.replicaBehind = counter(meterRegistry, Target.PRIMARY, "replica-lag");
+            this.reads = counter(meterRegistry, Target.REPLICA, "read");
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            ReadRoutingContext context = ReadRoutingContext.current();
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                // DDL, migrations, lazy loading after the transaction ended
+                outsideTransaction.increment();
+                return Target.PRIMARY;
+            }
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (context != null) {
+                    readYourWrites.wrote(context.getClient());
+                    context.pinToPrimary();
+                }
+                writes.increment();
+                return Target.PRIMARY;
+            }
+            if (context != null && context.isPinnedToPrimary()) {
+                sticky.increment();
+                return Target.PRIMARY;
+            }
+            if (ReadRoutingContext.isCacheLoad()) {
+                cacheLoad.increment();
+                return Target.PRIMARY;
+            }
+            if (!lagMonitor.isUsable()) {
+                replicaBehind.increment();
+                return Target.PRIMARY;
+            }
+            reads.increment();
+            return Target.REPLICA;
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, Target target, String reason) {
+            return Counter.builder("datasource.routing")
+                    .description("Connections handed out per pool")
+                    .tag("target", target.name().toLowerCase())
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.EventManagement.domain.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// SQL issued while serving one HTTP request: statements, rows read and time spent in JDBC.
+// QueryCountFilter opens it on the request thread and QueryFanOut carries it to its workers,
+// so the counters are shared across threads.
+public final class RequestQueryStats {
+
+    // request attribute holding the stats, for QueryBudget in the tests
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final int MAX_CAPTURED = 200;
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder jdbcNanos = new LongAdder();
+    // SQL text, only kept when app.query-count.capture-statements is on
+    private final List<String> statements;
+
+    RequestQueryStats(boolean captureStatements) {
+        this.statements = captureStatements ? Collections.synchronizedList(new ArrayList<>()) : null;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    static RequestQueryStats begin(boolean captureStatements) {
+        RequestQueryStats stats = new RequestQueryStats(captureStatements);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // task decorator: the task counts against the stats of the thread that submitted it
+    public static Runnable propagate(Runnable task) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            RequestQueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        };
+    }
+
+    void recordQuery(long elapsedNanos, List<String> sql) {
+        queries.increment();
+        jdbcNanos.add(elapsedNanos);
+        if (statements != null && statements.size() < MAX_CAPTURED) {
+            statements.addAll(sql);
+        }
+    }
+
+    void recordRow() {
+        rows.increment();
+    }
+
+    // statements sent to the database; a JDBC batch counts once
+    public long getQueries() {
+        return queries.sum();
+    }
+
+    // rows read from result sets
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos.sum();
+    }
+
+    public List<String> getStatements() {
+        if (statements == null) {
+            return List.of();
+        }
+        synchronized (statements) {
+            return List.copyOf(statements);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.EventManagement.domain.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// app.seed.* - sizes and shape of the synthetic dataset written by SyntheticDataGenerator.
+@Component
+@ConfigurationProperties(prefix = "app.seed")
+@Getter
+@Setter
+public class SeedProperties {
+
+    // replaces DataInitializer's small fixture; only runs against an empty user table
+    private boolean enabled = false;
+
+    private int users = 1_000_000;
+
+    // the rest of the users are students
+    private double managerShare = 0.02;
+    private double organizerShare = 0.01;
+
+    // share of users that filled in their profile (student/manager/organizer row)
+    private double profileShare = 0.7;
+
+    private int events = 100_000;
+
+    // share of events that hire managers; each gets 1..maxRolesPerEvent roles
+    private double managedEventShare = 0.4;
+    private int maxRolesPerEvent = 3;
+    private int maxInvitationsPerRole = 5;
+
+    private long registrations = 10_000_000;
+
+    // Zipf exponent for event popularity, organizer activity and manager demand
+    private double skew = 0.8;
+
+    // user n signs in with "s" + (n % distinctPasswords); hashing is the slow part, so only
+    // this many hashes are computed, at a low cost that login upgrades to app.password.bcrypt-strength
+    private int distinctPasswords = 1_000;
+    private int bcryptStrength = 4;
+
+    private int batchSize = 5_000;
+
+    // same seed, same dataset
+    private long randomSeed = 42;
+}
@@ -0,0 +1,310 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Concurrent identical reads share one load: the first caller for a key starts it, callers
+// arriving while it runs wait for its result (or its exception) instead of sending the same
+// query again. Nothing is kept once the load returns; caching stays with the @Cacheable layer,
+// this only covers the window while a load is in flight.
+//
+// The load runs on a pool thread of its own, in a read-only transaction, and every caller,
+// the one that started it included, waits for it up to app.single-flight.timeout-ms from its
+// own arrival. A caller that waits that long stops waiting and runs the load itself, as if
+// there were no flight. Once no caller waits any more the shared load is cancelled, its
+// running statement included, so the database does not finish work nobody reads.
+//
+// A flight takes joiners for the same timeout after it started; after it the next caller starts
+// a new flight.
+@Slf4j
+@Component
+public class SingleFlight {
+
+    // SER_service.getEventStudentdata, per event
+    public static final String EVENT_REGISTRATIONS = "eventRegistrations";
+    // the loads behind EventService's caches, per event id (the list under its one key). Their
+    // @Cacheable(sync = true) already lets one load per key run; the flight adds the timeout,
+    // the cancellation and the meters
+    public static final String EVENT = "event";
+    public static final String EVENT_DETAILS = "eventDetails";
+    public static final String EVENT_LIST = "eventList";
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transaction;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ThreadPoolTaskExecutor executor;
+
+    private final ConcurrentMap<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    // without JPA: a cancelled load is only interrupted
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, null, null);
+    }
+
+    @Autowired
+    public SingleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry,
+                        PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.entityManagerFactory = entityManagerFactory;
+        if (transactionManager == null) {
+            this.transaction = null;
+        } else {
+            this.transaction = new TransactionTemplate(transactionManager);
+            transaction.setReadOnly(true);
+        }
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreads());
+        executor.setMaxPoolSize(properties.getThreads());
+        // no queue: with every thread busy the caller runs the load itself, and cannot give up on it
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("single-flight-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // the shared load counts against the request that started it, and routes like its reads
+        executor.setTaskDecorator(task -> RequestQueryStats.propagate(ReadRoutingContext.propagate(task)));
+        executor.initialize();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Supplier<T> load) {
+        Meters counters = meters.computeIfAbsent(name, this::meters);
+        if (!properties.isEnabled() || mustReadOwnWrites()) {
+            counters.bypassed.increment();
+            return load.get();
+        }
+
+        FlightKey flightKey = new FlightKey(name, key);
+        long timeoutMs = properties.timeoutMs(name);
+        long now = System.nanoTime();
+        Flight started = new Flight(now + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        Flight flight = inFlight.compute(flightKey,
+                (k, running) -> running != null && running.join(now) ? running : started);
+
+        if (flight == started) {
+            counters.leaders.increment();
+            flight.result.whenComplete((value, failure) -> inFlight.remove(flightKey, flight));
+            executor.execute(() -> flight.run(() -> load(flight, load)));
+        } else {
+            counters.coalesced.increment();
+        }
+
+        try {
+            return (T) flight.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            counters.timeouts.increment();
+            if (flight.leave()) {
+                counters.cancelled.increment();
+            }
+            // the shared load is late; this caller reads on its own, as without a flight
+            return load.get();
+        } catch (InterruptedException e) {
+            if (flight.leave()) {
+                counters.cancelled.increment();
+            }
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the shared " + name + " read");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // After a write: callers from now on start a new flight instead of joining one that may have
+    // read before it. Inside a transaction this happens once it has committed; the callers
+    // already waiting still get the running flight's result.
+    public void forget(String name, Object key) {
+        FlightKey flightKey = new FlightKey(name, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inFlight.remove(flightKey);
+                }
+            });
+        } else {
+            inFlight.remove(flightKey);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    // one transaction for the whole load, so its session is the one running every statement
+    // and cancelling it stops whichever is on the wire. The session is looked up here, on the
+    // load's thread: the shared EntityManager would resolve it again on the cancelling one
+    private Object load(Flight flight, Supplier<?> load) {
+        if (transaction == null) {
+            return load.get();
+        }
+        return transaction.execute(status -> {
+            Session session = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory)
+                    .unwrap(Session.class);
+            flight.cancelWith(session::cancelQuery);
+            return load.get();
+        });
+    }
+
+    // a client that just wrote reads on its own, as do reads inside a writing transaction
+    private static boolean mustReadOwnWrites() {
+        ReadRoutingContext context = ReadRoutingContext.current();
+        if (context != null && context.isPinnedToPrimary()) {
+            return true;
+        }
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    // singleflight.calls{flight, role}: leader started the load, coalesced waited for one,
+    // bypassed ran it alone; singleflight.timeouts{flight}: callers that stopped waiting and read
+    // on their own; singleflight.cancelled{flight}: loads stopped because nobody waited any more
+    private Meters meters(String name) {
+        return new Meters(
+                call(name, "leader"),
+                call(name, "coalesced"),
+                call(name, "bypassed"),
+                Counter.builder("singleflight.timeouts")
+                        .description("Callers that stopped waiting for a shared read")
+                        .tag("flight", name)
+                        .register(meterRegistry),
+                Counter.builder("singleflight.cancelled")
+                        .description("Shared reads cancelled after every caller stopped waiting")
+                        .tag("flight", name)
+                        .register(meterRegistry));
+    }
+
+    private Counter call(String name, String role) {
+        return Counter.builder("singleflight.calls")
+                .description("Reads by whether they ran, joined or skipped a shared load")
+                .tag("flight", name)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private record FlightKey(String name, Object key) {
+    }
+
+    private record Meters(Counter leaders, Counter coalesced, Counter bypassed, Counter timeouts, Counter cancelled) {
+    }
+
+    private static final class Flight {
+
+        private final long deadline;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        // callers waiting for the result; the one that started the flight counts from the start
+        private int waiters = 1;
+        private boolean cancelled;
+        private Thread worker;
+        private Runnable cancelQuery;
+
+        private Flight(long deadline) {
+            this.deadline = deadline;
+        }
+
+        synchronized boolean join(long now) {
+            if (cancelled || result.isDone() || now - deadline >= 0) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        // true when the caller was the last one waiting and the load was cancelled
+        boolean leave() {
+            Thread running;
+            Runnable cancel;
+            synchronized (this) {
+                if (--waiters > 0 || cancelled || result.isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                running = worker;
+                cancel = cancelQuery;
+            }
+            result.cancel(false);
+            if (running != null) {
+                running.interrupt();
+            }
+            cancelStatement(cancel);
+            return true;
+        }
+
+        void run(Supplier<?> load) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                worker = Thread.currentThread();
+            }
+            try {
+                result.complete(load.get());
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            } finally {
+                boolean clearInterrupt;
+                synchronized (this) {
+                    worker = null;
+                    cancelQuery = null;
+                    clearInterrupt = cancelled;
+                }
+                // the interrupt was meant for this load, not the next one on the thread
+                if (clearInterrupt) {
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        void cancelWith(Runnable cancel) {
+            synchronized (this) {
+                if (!cancelled) {
+                    cancelQuery = cancel;
+                    return;
+                }
+            }
+            cancelStatement(cancel);
+        }
+
+        private static void cancelStatement(Runnable cancel) {
+            if (cancel == null) {
+                return;
+            }
+            try {
+                cancel.run();
+            } catch (RuntimeException e) {
+                log.debug("Could not cancel an abandoned shared read: {}", e.getMessage());
+            }
+        }
+    }
+}
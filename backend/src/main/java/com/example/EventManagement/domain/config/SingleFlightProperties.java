@@ -0,0 +1,34 @@
+package com.example.EventManagement.domain.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// app.single-flight.* - request coalescing in SingleFlight.
+@Component
+@ConfigurationProperties(prefix = "app.single-flight")
+@Getter
+@Setter
+public class SingleFlightProperties {
+
+    // off: every caller runs its own load
+    private boolean enabled = true;
+
+    // how long a flight takes joiners after it started, and how long each caller waits for it
+    // from its own arrival before reading on its own
+    private long timeoutMs = 2_000;
+
+    // threads running shared loads; with all of them busy a new flight runs on its caller
+    private int threads = 4;
+
+    // per flight name, e.g. app.single-flight.timeouts.eventRegistrations=5000
+    private Map<String, Long> timeouts = new HashMap<>();
+
+    long timeoutMs(String flight) {
+        return timeouts.getOrDefault(flight, timeoutMs);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.web.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Reads only the requested properties of a DTO from one entity row, as a tuple query. Each
+// property comes from the entity attribute of the same name, which is what the MapStruct
+// mappers copy, unless the caller maps it to another path. Properties without such an attribute
+// are left null.
+@Component
+@RequiredArgsConstructor
+public class SparseFieldQuery {
+
+    // profiles take email and name from their user
+    public static final Map<String, String> PROFILE_USER_FIELDS = Map.of("email", "user.username", "name", "user.name");
+
+    private static final String KEY = "_key";
+
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public <D> Optional<D> findOne(Class<?> entityType, String keyPath, Object key, Class<D> dtoType,
+                                   FieldSelection fields, Map<String, String> paths) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<?> root = query.from(entityType);
+        Path<?> keyAttribute = resolve(root, keyPath);
+
+        BeanWrapper dtoProperties = new BeanWrapperImpl(dtoType);
+        List<Selection<?>> selections = new ArrayList<>();
+        // the key is always selected, so a row is found even when no requested field exists
+        selections.add(keyAttribute.alias(KEY));
+        for (String field : fields.names()) {
+            Path<?> attribute = dtoProperties.isWritableProperty(field)
+                    ? resolve(root, paths.getOrDefault(field, field)) : null;
+            if (attribute != null) {
+                selections.add(attribute.alias(field));
+            }
+        }
+        query.multiselect(selections).where(cb.equal(keyAttribute, key));
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(1).getResultList();
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        D dto = BeanUtils.instantiateClass(dtoType);
+        BeanWrapper target = new BeanWrapperImpl(dto);
+        // entity and DTO types differ in places, e.g. Integer requiredVolunteer into a String
+        target.setConversionService(DefaultConversionService.getSharedInstance());
+        Tuple row = rows.get(0);
+        for (TupleElement<?> element : row.getElements()) {
+            if (!KEY.equals(element.getAlias())) {
+                target.setPropertyValue(element.getAlias(), row.get(element));
+            }
+        }
+        return Optional.of(dto);
+    }
+
+    // a dotted path of single-valued attributes ending in a basic one, or null
+    private Path<?> resolve(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        ManagedType<?> type = entityManager.getMetamodel().managedType(root.getJavaType());
+        Attribute<?, ?> attribute = null;
+        for (String name : attributePath.split("\\.")) {
+            if (type == null) {
+                return null;
+            }
+            attribute = type.getAttributes().stream()
+                    .filter(candidate -> candidate.getName().equals(name))
+                    .findFirst()
+                    .orElse(null);
+            if (attribute == null || attribute.isCollection()) {
+                return null;
+            }
+            path = path.get(name);
+            type = attribute.isAssociation() ? entityManager.getMetamodel().managedType(attribute.getJavaType()) : null;
+        }
+        return attribute == null || attribute.isAssociation() ? null : path;
+    }
+}
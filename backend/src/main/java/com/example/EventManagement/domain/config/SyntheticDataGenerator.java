@@ -0,0 +1,439 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.entity.type.AuthProviderType;
+import com.example.EventManagement.domain.entity.type.UserType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Production-sized dataset for load and performance runs (see application-perf.properties).
+// Rows go in through JDBC batches with explicit ids, one transaction per batch, and the id
+// sequences are moved past them at the end so the application keeps allocating from there.
+// Events, organizers and managers are drawn with Zipf popularity: a few events take most of
+// the registrations and a few managers get most of the invitations, as in production.
+@Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Priya", "Rohan", "Ananya", "Vikram", "Sneha", "Arjun",
+            "Kavya", "Rahul", "Isha", "Aditya", "Meera", "Karan", "Pooja", "Nikhil", "Divya"};
+    private static final String[] LAST_NAMES = {"Sharma", "Patel", "Iyer", "Reddy", "Gupta", "Singh", "Nair",
+            "Joshi", "Mehta", "Rao", "Shivane", "Kulkarni", "Das", "Verma"};
+    private static final String[] CITIES = {"Mumbai", "Pune", "Bengaluru", "Delhi", "Hyderabad", "Chennai",
+            "Kolkata", "Ahmedabad", "Jaipur", "Nagpur", "Indore", "Kochi", "Lucknow", "Surat", "Nashik"};
+    private static final String[] CATEGORIES = {"Technology", "Music", "Sports", "Education", "Environment",
+            "Health", "Arts", "Business", "Community", "Food"};
+    private static final String[] KINDS = {"Meetup", "Festival", "Marathon", "Workshop", "Drive", "Conference",
+            "Camp", "Expo", "Hackathon", "Fair"};
+    private static final String[] ROLE_TITLES = {"Event Lead", "Logistics Manager", "Volunteer Coordinator",
+            "Stage Manager", "Hospitality Manager", "Security Lead"};
+    private static final String[] SKILLS = {"Teamwork, Communication", "First Aid", "Photography",
+            "Crowd Management", "Public Speaking", "Registration Desk", "Social Media"};
+    private static final String[] INVITATION_REPLIES = {"SENT", "SENT", "ACCEPT", "DECLINE", "COUNTER_OFFER"};
+    private static final String[] TRANSPORT = {"Bus", "Metro", "Bike", "Car", "Walk"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SeedProperties properties;
+
+    @Override
+    public void run(String... args) {
+        Long users = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user", Long.class);
+        if (users != null && users > 0) {
+            log.info("Synthetic data skipped: {} users already exist", users);
+            return;
+        }
+        generate();
+    }
+
+    public void generate() {
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int managers = Math.max(1, (int) Math.round(properties.getUsers() * properties.getManagerShare()));
+        int organizers = Math.max(1, (int) Math.round(properties.getUsers() * properties.getOrganizerShare()));
+        int students = properties.getUsers() - managers - organizers;
+        if (students < 1) {
+            throw new IllegalArgumentException("app.seed.users leaves no students after managers and organizers");
+        }
+
+        // users are laid out managers, organizers, students, so an index maps straight to an id
+        long managerBase = maxId("user");
+        long organizerBase = managerBase + managers;
+        long studentBase = organizerBase + organizers;
+
+        String[] hashes = hashPasswords();
+        insertUsers(transactionTemplate, random, hashes, managers, organizers, students, managerBase);
+
+        int eventCount = properties.getEvents();
+        long eventBase = maxId("events");
+        int[] startMinutes = new int[eventCount];
+        BitSet managed = new BitSet(eventCount);
+        LocalDateTime origin = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusDays(365);
+        insertEvents(transactionTemplate, random, origin, eventBase, organizerBase, organizers, startMinutes, managed);
+
+        int pastMinutes = (int) ChronoUnit.MINUTES.between(origin, LocalDateTime.now());
+        insertRolesAndInvitations(transactionTemplate, random, origin, eventBase, managerBase, managers,
+                startMinutes, pastMinutes, managed);
+        insertRegistrations(transactionTemplate, random, eventBase, studentBase, students, startMinutes, pastMinutes);
+
+        advanceSequences();
+        log.info("Synthetic data ready in {} s: {} users ({} students, {} managers, {} organizers), {} events",
+                (System.currentTimeMillis() - started) / 1000, properties.getUsers(), students, managers,
+                organizers, eventCount);
+    }
+
+    // each hash is independent, so they spread over all cores
+    private String[] hashPasswords() {
+        long started = System.currentTimeMillis();
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        String[] hashes = IntStream.range(0, Math.max(1, properties.getDistinctPasswords()))
+                .parallel()
+                .mapToObj(i -> encoder.encode("s" + i))
+                .toArray(String[]::new);
+        log.info("Hashed {} distinct passwords in {} ms", hashes.length, System.currentTimeMillis() - started);
+        return hashes;
+    }
+
+    private void insertUsers(TransactionTemplate transactionTemplate, SplittableRandom random, String[] hashes,
+                             int managers, int organizers, int students, long base) {
+        BatchInsert users = batch(transactionTemplate, "user",
+                "id, username, name, password, provider_type, usertype, profile_completed");
+        BatchInsert studentProfiles = batch(transactionTemplate, "student",
+                "id, user_id, phone, city, state, university, degree, major, current_year, skills, interests, availability")
+                .after(users);
+        BatchInsert managerProfiles = batch(transactionTemplate, "manager",
+                "id, user_id, phone, city, state, job_title, company, years_exp, specializations, availability")
+                .after(users);
+        BatchInsert organizerProfiles = batch(transactionTemplate, "organizer",
+                "id, user_id, phone, personal_city, organization_name, organization_type, industry, business_email")
+                .after(users);
+        long studentId = maxId("student");
+        long managerId = maxId("manager");
+        long organizerId = maxId("organizer");
+
+        for (int i = 0; i < managers + organizers + students; i++) {
+            UserType type = i < managers ? UserType.MANAGER
+                    : i < managers + organizers ? UserType.ORGANIZER : UserType.STUDENT;
+            // numbered per type from 1, like DataInitializer: student7@gmail.com signs in with s7
+            int number = 1 + (type == UserType.MANAGER ? i : type == UserType.ORGANIZER ? i - managers : i - managers - organizers);
+            long userId = base + i + 1;
+            boolean profile = random.nextDouble() < properties.getProfileShare();
+            String city = pick(random, CITIES);
+
+            users.add(userId, type.name().toLowerCase() + number + "@gmail.com",
+                    pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                    hashes[number % hashes.length], AuthProviderType.EMAIL.name(), type.name(), profile ? "100" : "13");
+            if (!profile) {
+                continue;
+            }
+            switch (type) {
+                case STUDENT -> studentProfiles.add(++studentId, userId, phone(random), city, "Maharashtra",
+                        city + " University", "B.Tech", pick(random, CATEGORIES), String.valueOf(1 + random.nextInt(4)),
+                        pick(random, SKILLS), pick(random, CATEGORIES), random.nextBoolean() ? "Weekends" : "Full-time");
+                case MANAGER -> managerProfiles.add(++managerId, userId, phone(random), city, "Maharashtra",
+                        "Event Manager", city + " Events Pvt Ltd", String.valueOf(1 + random.nextInt(20)),
+                        pick(random, KINDS), random.nextBoolean() ? "Weekends" : "Full-time");
+                default -> organizerProfiles.add(++organizerId, userId, phone(random), city,
+                        pick(random, LAST_NAMES) + " " + pick(random, CATEGORIES) + " Foundation",
+                        random.nextBoolean() ? "NGO" : "Company", pick(random, CATEGORIES),
+                        "contact" + number + "@org.example");
+            }
+        }
+        finish(users, studentProfiles, managerProfiles, organizerProfiles);
+    }
+
+    private void insertEvents(TransactionTemplate transactionTemplate, SplittableRandom random, LocalDateTime origin,
+                              long base, long organizerBase, int organizers, int[] startMinutes, BitSet managed) {
+        BatchInsert events = batch(transactionTemplate, "events",
+                "id, title, description, summary, start_at, end_at, location, created_by_id, managedby_manager, "
+                        + "required_volunteer, status, category, tags, cost");
+        Zipf organizerActivity = new Zipf(organizers, properties.getSkew());
+        int organizerStride = coprimeStride(organizers, random);
+        Zipf cityPopularity = new Zipf(CITIES.length, properties.getSkew());
+
+        for (int i = 0; i < startMinutes.length; i++) {
+            // a year back to a year ahead, on the hour
+            startMinutes[i] = random.nextInt(2 * 365 * 24) * 60;
+            boolean byManager = random.nextDouble() < properties.getManagedEventShare();
+            managed.set(i, byManager);
+            LocalDateTime startAt = origin.plusMinutes(startMinutes[i]);
+            String category = pick(random, CATEGORIES);
+            String kind = pick(random, KINDS);
+            // mostly small crews, a long tail of large events
+            int volunteers = (int) Math.min(500, Math.round(Math.exp(2.5 + random.nextDouble() * random.nextDouble() * 3.5)));
+            long organizer = organizerBase + 1 + scatter(organizerActivity.sample(random), organizerStride, organizers);
+
+            // short enough to be its own summary
+            String description = "A " + kind.toLowerCase() + " on " + category.toLowerCase() + " for volunteers.";
+            events.add(base + i + 1, category + " " + kind + " #" + (i + 1), description, description,
+                    startAt, startAt.plusHours(2 + random.nextInt(9)), CITIES[cityPopularity.sample(random)],
+                    organizer, byManager, volunteers, "Event Created", category,
+                    category.toLowerCase() + "," + kind.toLowerCase(),
+                    random.nextInt(10) < 6 ? "0" : String.valueOf(100 * (1 + random.nextInt(50))));
+        }
+        finish(events);
+    }
+
+    private void insertRolesAndInvitations(TransactionTemplate transactionTemplate, SplittableRandom random,
+                                           LocalDateTime origin, long eventBase, long managerBase, int managers,
+                                           int[] startMinutes, int pastMinutes, BitSet managed) {
+        BatchInsert roles = batch(transactionTemplate, "manager_role",
+                "id, title, description, budget, currency, deadline, eventid, responsibilities, requirments");
+        BatchInsert invitations = batch(transactionTemplate, "event_invitation",
+                "id, eventid, roleid, userid, proposed_budget, manager_msg, sent_at, responded_at, status, selected")
+                .after(roles);
+        Zipf managerDemand = new Zipf(managers, properties.getSkew());
+        int managerStride = coprimeStride(managers, random);
+        long roleId = maxId("manager_role");
+        long invitationId = maxId("event_invitation");
+
+        for (int e = managed.nextSetBit(0); e >= 0; e = managed.nextSetBit(e + 1)) {
+            long eventId = eventBase + e + 1;
+            LocalDateTime startAt = origin.plusMinutes(startMinutes[e]);
+            boolean past = startMinutes[e] < pastMinutes;
+            int roleCount = 1 + random.nextInt(Math.max(1, properties.getMaxRolesPerEvent()));
+            for (int r = 0; r < roleCount; r++) {
+                String budget = String.valueOf(5_000 * (1 + random.nextInt(20)));
+                roles.add(++roleId, pick(random, ROLE_TITLES), "Runs part of the event on the day", budget, "INR",
+                        startAt.toLocalDate().minusDays(7), eventId, "Coordinate volunteers and vendors",
+                        (1 + random.nextInt(10)) + " years of experience");
+
+                // distinct managers, starting from a popular one
+                int invited = Math.min(managers, 1 + random.nextInt(Math.max(1, properties.getMaxInvitationsPerRole())));
+                int first = managerDemand.sample(random);
+                LocalDateTime sentAt = startAt.minusDays(10 + random.nextInt(30));
+                for (int m = 0; m < invited; m++) {
+                    long manager = managerBase + 1 + scatter((first + m) % managers, managerStride, managers);
+                    // past events usually ended with one selected manager per role
+                    boolean selected = past && m == 0 && random.nextInt(10) < 8;
+                    String status = selected ? "SELECTED" : pick(random, INVITATION_REPLIES);
+                    invitations.add(++invitationId, eventId, roleId, manager, budget, null, sentAt,
+                            "SENT".equals(status) ? null : sentAt.plusDays(1 + random.nextInt(5)), status, selected);
+                }
+            }
+        }
+        finish(roles, invitations);
+    }
+
+    private void insertRegistrations(TransactionTemplate transactionTemplate, SplittableRandom random, long eventBase,
+                                     long studentBase, int students, int[] startMinutes, int pastMinutes) {
+        BatchInsert registrations = batch(transactionTemplate, "student_event_register",
+                "id, event_id, user_id, status, availability, have_bike, transport_medium, prev_exp, reasonforevent, "
+                        + "skills, notes, dietary_restrictions");
+        int[] perEvent = registrationsPerEvent(random, startMinutes.length, students);
+        long id = maxId("student_event_register");
+
+        for (int e = 0; e < perEvent.length; e++) {
+            boolean past = startMinutes[e] < pastMinutes;
+            // start + j * stride with a stride coprime to the student count never repeats a student
+            long start = random.nextInt(students);
+            long stride = coprimeStride(students, random);
+            for (int j = 0; j < perEvent[e]; j++) {
+                long student = studentBase + 1 + (start + j * stride) % students;
+                registrations.add(++id, eventBase + e + 1, student, registrationStatus(random, past),
+                        random.nextBoolean() ? "Full-time" : "Half-day", random.nextInt(4) == 0 ? "Yes" : "No",
+                        pick(random, TRANSPORT), random.nextInt(3) == 0 ? "Volunteered before" : "No previous experience",
+                        "Wants to help", pick(random, SKILLS), null, random.nextInt(5) == 0 ? "Vegetarian" : "None");
+            }
+        }
+        finish(registrations);
+    }
+
+    // Zipf share of the total per event, capped at one registration per student; what the
+    // cap and rounding leave over goes to the most popular events that still have room
+    private int[] registrationsPerEvent(SplittableRandom random, int events, int students) {
+        int[] perEvent = new int[events];
+        if (events == 0) {
+            return perEvent;
+        }
+        long total = Math.min(properties.getRegistrations(), (long) events * students);
+        Zipf popularity = new Zipf(events, properties.getSkew());
+        int stride = coprimeStride(events, random);
+        long assigned = 0;
+        for (int rank = 0; rank < events; rank++) {
+            int count = (int) Math.min(students, (long) (total * popularity.weight(rank)));
+            perEvent[scatter(rank, stride, events)] = count;
+            assigned += count;
+        }
+        for (int rank = 0; assigned < total; rank = (rank + 1) % events) {
+            int event = scatter(rank, stride, events);
+            if (perEvent[event] < students) {
+                perEvent[event]++;
+                assigned++;
+            }
+        }
+        return perEvent;
+    }
+
+    private static String registrationStatus(SplittableRandom random, boolean past) {
+        int roll = random.nextInt(100);
+        if (past) {
+            return roll < 70 ? "APPROVED" : roll < 95 ? "REJECTED" : "PENDING";
+        }
+        return roll < 80 ? "PENDING" : roll < 95 ? "APPROVED" : "REJECTED";
+    }
+
+    // same rule as V3__pooled_id_sequences.sql: the next block starts after the largest id
+    private void advanceSequences() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        boolean realSequences = "H2".equals(product);
+        String[][] sequences = {{"user", "user_seq"}, {"events", "events_seq"}, {"student", "student_seq"},
+                {"manager", "manager_seq"}, {"organizer", "organizer_seq"},
+                {"student_event_register", "student_event_register_seq"},
+                {"event_invitation", "event_invitation_seq"}, {"manager_role", "manager_role_seq"}};
+        for (String[] sequence : sequences) {
+            long next = maxId(sequence[0]) + 1;
+            if (realSequences) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence[1] + " RESTART WITH " + next);
+            } else {
+                // MySQL has no sequences; Hibernate keeps them as one-row tables
+                jdbcTemplate.update("UPDATE " + sequence[1] + " SET next_val = ?", next);
+            }
+        }
+    }
+
+    private long maxId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private BatchInsert batch(TransactionTemplate transactionTemplate, String table, String columns) {
+        return new BatchInsert(jdbcTemplate, transactionTemplate, Math.max(1, properties.getBatchSize()), table, columns);
+    }
+
+    private static void finish(BatchInsert... batches) {
+        for (BatchInsert batch : batches) {
+            batch.flush();
+            log.info("Seeded {} rows into {} in {} ms", batch.written, batch.table,
+                    (System.nanoTime() - batch.started) / 1_000_000);
+        }
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "9" + (100_000_000 + random.nextInt(900_000_000));
+    }
+
+    // spreads popularity ranks over the ids, so the popular rows are not all the oldest ones
+    private static int scatter(int rank, int stride, int n) {
+        return (int) ((long) rank * stride % n);
+    }
+
+    private static int coprimeStride(int n, SplittableRandom random) {
+        if (n <= 2) {
+            return 1;
+        }
+        int stride;
+        do {
+            stride = 1 + random.nextInt(n - 1);
+        } while (gcd(stride, n) != 1);
+        return stride;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    // P(rank k) proportional to 1 / (k + 1)^s
+    private static final class Zipf {
+
+        private final double[] cumulative;
+
+        Zipf(int n, double exponent) {
+            cumulative = new double[Math.max(1, n)];
+            double sum = 0;
+            for (int k = 0; k < cumulative.length; k++) {
+                sum += 1 / Math.pow(k + 1, exponent);
+                cumulative[k] = sum;
+            }
+            for (int k = 0; k < cumulative.length; k++) {
+                cumulative[k] /= sum;
+            }
+        }
+
+        int sample(SplittableRandom random) {
+            int found = Arrays.binarySearch(cumulative, random.nextDouble());
+            return Math.min(cumulative.length - 1, found >= 0 ? found : -found - 1);
+        }
+
+        double weight(int rank) {
+            return rank == 0 ? cumulative[0] : cumulative[rank] - cumulative[rank - 1];
+        }
+    }
+
+    // rows are buffered and sent as one JDBC batch per transaction; a batch whose rows reference
+    // another one's flushes that one first, so foreign keys always point at written rows
+    private static final class BatchInsert {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+        private final int batchSize;
+        private final String table;
+        private final String sql;
+        private final List<Object[]> rows;
+        private final long started = System.nanoTime();
+        private BatchInsert parent;
+        private long written;
+
+        BatchInsert(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int batchSize,
+                    String table, String columns) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.transactionTemplate = transactionTemplate;
+            this.batchSize = batchSize;
+            this.table = table;
+            int count = columns.split(",").length;
+            this.sql = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                    + String.join(", ", Collections.nCopies(count, "?")) + ")";
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        BatchInsert after(BatchInsert parent) {
+            this.parent = parent;
+            return this;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            if (parent != null) {
+                parent.flush();
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            written += rows.size();
+            rows.clear();
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package com.example.EventManagement.domain.config;
 
+import com.example.EventManagement.domain.web.FieldSelection;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,8 +24,25 @@ public class WebConfig {
                         .allowedOrigins("http://localhost:3000")
                         .allowedMethods("GET","POST","PUT","DELETE","OPTIONS","PATCH")
                         .allowedHeaders("*")
+                        .exposedHeaders("ETag")
                         .allowCredentials(true);
             }
         };
     }
-}
\ No newline at end of file
+
+    // @JsonFilter types need a filter under that id in every mapper; this one writes all
+    // properties, FieldSelectionAdvice swaps it per response when ?fields= is given
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilter(){
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Accept: application/cbor gets the same body in binary; built from Boot's builder so it has
+    // the JSON mapper's modules, date format and field filter. It replaces MVC's default CBOR
+    // converter in place, after JSON, so */* still answers JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborConverter(Jackson2ObjectMapperBuilder builder){
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
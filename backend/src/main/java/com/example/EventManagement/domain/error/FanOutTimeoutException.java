@@ -0,0 +1,8 @@
+package com.example.EventManagement.domain.error;
+
+public class FanOutTimeoutException extends RuntimeException {
+
+    public FanOutTimeoutException(long timeoutMs) {
+        super("A query did not answer within " + timeoutMs + " ms");
+    }
+}
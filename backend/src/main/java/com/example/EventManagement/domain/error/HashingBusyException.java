@@ -0,0 +1,14 @@
+package com.example.EventManagement.domain.error;
+
+import lombok.Getter;
+
+@Getter
+public class HashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public HashingBusyException(long retryAfterSeconds) {
+        super("Too many logins at once, please retry shortly");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
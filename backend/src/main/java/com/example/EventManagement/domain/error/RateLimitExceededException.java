@@ -0,0 +1,14 @@
+package com.example.EventManagement.domain.error;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String group, long retryAfterSeconds) {
+        super("Too many requests to " + group + ", retry in " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.EventManagement.domain.export;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+// Rows are written to the response while the result set is still being read, so exports
+// start sending immediately and never hold more than one event's applicants in memory.
+@RestController
+@RequestMapping("Export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @GetMapping("/events")
+    public void exportEvents(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                             HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        prepare(response, exportFormat, "events");
+        exportService.writeEventApplicants(exportFormat, response.getOutputStream());
+    }
+
+    @GetMapping("/events/{eventid}/registrations")
+    public void exportRegistrations(@PathVariable("eventid") String eventid,
+                                    @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                                    HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        prepare(response, exportFormat, "event-" + Long.parseLong(eventid) + "-registrations");
+        exportService.writeRegistrations(eventid, exportFormat, response.getOutputStream());
+    }
+
+    private static void prepare(HttpServletResponse response, ExportFormat format, String name) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+    }
+}
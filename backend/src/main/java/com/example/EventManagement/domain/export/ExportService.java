@@ -0,0 +1,207 @@
+package com.example.EventManagement.domain.export;
+
+import com.example.EventManagement.domain.studentEventRegister.EventApplicantExportRow;
+import com.example.EventManagement.domain.studentEventRegister.EventStudentData_DTO;
+import com.example.EventManagement.domain.studentEventRegister.SER_repository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    private static final String[] EVENT_APPLICANT_COLUMNS = {
+            "eventId", "title", "startAt", "endAt", "location", "category", "eventStatus", "requiredVolunteer",
+            "registrationId", "name", "username", "registrationStatus", "skills", "availability"};
+
+    private static final String[] REGISTRATION_COLUMNS = {
+            "id", "name", "username", "university", "degree", "currentYear", "skills", "status", "availability",
+            "marks", "bio"};
+
+    private final SER_repository serRepository;
+    private final ObjectMapper objectMapper;
+    // MySQL streams the export queries row by row; other databases fetch them in batches
+    private final boolean rowByRow;
+
+    @Autowired
+    public ExportService(SER_repository serRepository, ObjectMapper objectMapper, EntityManagerFactory entityManagerFactory) {
+        this(serRepository, objectMapper, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect);
+    }
+
+    ExportService(SER_repository serRepository, ObjectMapper objectMapper, boolean rowByRow) {
+        this.serRepository = serRepository;
+        this.objectMapper = objectMapper;
+        this.rowByRow = rowByRow;
+    }
+
+    // The rows are native projections, not entities, so the persistence context stays empty.
+    // Only the start of the first line (or the CSV header) is flushed explicitly so the download
+    // starts at once; after that the response buffer decides when bytes go out.
+    @Transactional(readOnly = true)
+    public void writeEventApplicants(ExportFormat format, OutputStream out) throws IOException {
+
+        try (Stream<EventApplicantExportRow> rows = rowByRow ? serRepository.streamEventApplicants()
+                : serRepository.streamEventApplicantsInBatches()) {
+            if (format == ExportFormat.CSV) {
+                writeEventApplicantsCsv(rows.iterator(), out);
+            } else {
+                writeEventApplicantsNdjson(rows.iterator(), out);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void writeRegistrations(String eventid, ExportFormat format, OutputStream out) throws IOException {
+
+        try (Stream<EventStudentData_DTO> rows = rowByRow ? serRepository.streamEventStudentdata(eventid)
+                : serRepository.streamEventStudentdataInBatches(eventid)) {
+            if (format == ExportFormat.CSV) {
+                writeRegistrationsCsv(rows.iterator(), out);
+            } else {
+                writeRegistrationsNdjson(rows.iterator(), out);
+            }
+        }
+    }
+
+    // rows arrive ordered by event, so each line is closed as soon as the event id changes
+    private void writeEventApplicantsNdjson(Iterator<EventApplicantExportRow> rows, OutputStream out) throws IOException {
+
+        JsonGenerator json = ndjson(out);
+        Long currentEvent = null;
+        boolean first = true;
+        while (rows.hasNext()) {
+            EventApplicantExportRow row = rows.next();
+            if (!Objects.equals(row.getEventId(), currentEvent)) {
+                if (currentEvent != null) {
+                    endEvent(json);
+                }
+                currentEvent = row.getEventId();
+                json.writeStartObject();
+                json.writeObjectField("id", row.getEventId());
+                json.writeStringField("title", row.getTitle());
+                json.writeObjectField("startAt", row.getStartAt());
+                json.writeObjectField("endAt", row.getEndAt());
+                json.writeStringField("location", row.getLocation());
+                json.writeStringField("category", row.getCategory());
+                json.writeStringField("status", row.getEventStatus());
+                json.writeObjectField("requiredVolunteer", row.getRequiredVolunteer());
+                json.writeArrayFieldStart("applicants");
+                // the first event may have many applicants; its start goes out before them
+                if (first) {
+                    json.flush();
+                    first = false;
+                }
+            }
+            if (row.getRegistrationId() != null) {
+                json.writeStartObject();
+                json.writeNumberField("id", row.getRegistrationId());
+                json.writeStringField("name", row.getName());
+                json.writeStringField("username", row.getUsername());
+                json.writeStringField("status", row.getRegistrationStatus());
+                json.writeStringField("skills", row.getSkills());
+                json.writeStringField("availability", row.getAvailability());
+                json.writeEndObject();
+            }
+        }
+        if (currentEvent != null) {
+            endEvent(json);
+        }
+        json.flush();
+    }
+
+    private void writeRegistrationsNdjson(Iterator<EventStudentData_DTO> rows, OutputStream out) throws IOException {
+
+        JsonGenerator json = ndjson(out);
+        boolean first = true;
+        while (rows.hasNext()) {
+            json.writeObject(rows.next());
+            json.writeRaw('\n');
+            if (first) {
+                json.flush();
+                first = false;
+            }
+        }
+        json.flush();
+    }
+
+    private void writeEventApplicantsCsv(Iterator<EventApplicantExportRow> rows, OutputStream out) throws IOException {
+
+        Writer csv = csv(out);
+        writeCsvRow(csv, (Object[]) EVENT_APPLICANT_COLUMNS);
+        csv.flush();
+        while (rows.hasNext()) {
+            EventApplicantExportRow row = rows.next();
+            writeCsvRow(csv, row.getEventId(), row.getTitle(), row.getStartAt(), row.getEndAt(), row.getLocation(),
+                    row.getCategory(), row.getEventStatus(), row.getRequiredVolunteer(), row.getRegistrationId(),
+                    row.getName(), row.getUsername(), row.getRegistrationStatus(), row.getSkills(), row.getAvailability());
+        }
+        csv.flush();
+    }
+
+    private void writeRegistrationsCsv(Iterator<EventStudentData_DTO> rows, OutputStream out) throws IOException {
+
+        Writer csv = csv(out);
+        writeCsvRow(csv, (Object[]) REGISTRATION_COLUMNS);
+        csv.flush();
+        while (rows.hasNext()) {
+            EventStudentData_DTO row = rows.next();
+            writeCsvRow(csv, row.getId(), row.getName(), row.getUsername(), row.getUniversity(), row.getDegree(),
+                    row.getCurrentYear(), row.getSkills(), row.getStatus(), row.getAvailability(), row.getMarks(),
+                    row.getBio());
+        }
+        csv.flush();
+    }
+
+    private JsonGenerator ndjson(OutputStream out) throws IOException {
+        JsonGenerator json = objectMapper.createGenerator(out);
+        json.setRootValueSeparator(null);
+        return json;
+    }
+
+    private static void endEvent(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static Writer csv(OutputStream out) {
+        return new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    static void writeCsvRow(Writer csv, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            csv.write(escapeCsv(values[i]));
+        }
+        csv.write("\r\n");
+    }
+
+    static String escapeCsv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -6,7 +6,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="EventInvitation")
+@Table(name="EventInvitation", indexes = {
+        @Index(name = "idx_invitation_user_selected", columnList = "userid, selected"),
+        @Index(name = "idx_invitation_event", columnList = "eventid"),
+        @Index(name = "idx_invitation_role_user", columnList = "roleid, userid")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -16,14 +20,15 @@ import java.time.LocalDateTime;
 public class EventInvitation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_invitation_seq")
+    @SequenceGenerator(name = "event_invitation_seq", sequenceName = "event_invitation_seq", allocationSize = 50)
     private Long id;
 
-    private String eventid;
+    private Long eventid;
 
-    private String roleid;
+    private Long roleid;
 
-    private String userid;
+    private Long userid;
 
     private String proposed_budget;
 
@@ -35,5 +40,5 @@ public class EventInvitation {
 
     private String status;
 
-    private String selected;
+    private boolean selected;
 }
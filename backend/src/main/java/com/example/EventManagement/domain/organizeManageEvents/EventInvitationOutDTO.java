@@ -24,5 +24,5 @@ public class EventInvitationOutDTO {
 
     private String status;
 
-    private String selected;
+    private boolean selected;
 }
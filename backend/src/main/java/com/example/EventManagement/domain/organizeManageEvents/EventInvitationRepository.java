@@ -3,9 +3,11 @@ package com.example.EventManagement.domain.organizeManageEvents;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface EventInvitationRepository extends JpaRepository<EventInvitation,Long> {
 
     @Query(value="""
@@ -23,9 +25,9 @@ public interface EventInvitationRepository extends JpaRepository<EventInvitation
 
     List<ManagerListDto> getmangerlist();
 
-    List<EventInvitation> findByEventid(String eventid);
+    List<EventInvitation> findByEventid(Long eventid);
 
-    EventInvitation findByRoleidAndUserid(String roleid, String userid);
+    EventInvitation findByRoleidAndUserid(Long roleid, Long userid);
 
 
     @Query(value = """
@@ -48,12 +50,12 @@ public interface EventInvitationRepository extends JpaRepository<EventInvitation
     LEFT JOIN user ON e.created_by_id = user.id
     WHERE ei.userid = :userid
     """, nativeQuery = true)
-    List<EventInvitationProjection> findByUserid(@Param("userid") String userid);
+    List<EventInvitationProjection> findByUserid(@Param("userid") Long userid);
 
 
 //    EventInvitation findByIDAndUserid(Long  id,String userid);
 
-    EventInvitation findByIdAndUserid(Long id, String userid);
+    EventInvitation findByIdAndUserid(Long id, Long userid);
 
 
 
@@ -2,11 +2,15 @@ package com.example.EventManagement.domain.organizeManageEvents;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 
 @Entity
-@Table(name="ManagerRole")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-role")
+@Table(name="ManagerRole", indexes = @Index(name = "idx_manager_role_event", columnList = "eventid"))
 @Getter
 @Setter
 @Builder
@@ -17,7 +21,8 @@ public class EventRole {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manager_role_seq")
+    @SequenceGenerator(name = "manager_role_seq", sequenceName = "manager_role_seq", allocationSize = 50)
     private Long id;
 
     private String title;
@@ -34,5 +39,5 @@ public class EventRole {
 
     private LocalDate deadline;
 
-    private String eventid;
+    private Long eventid;
 }
@@ -1,12 +1,25 @@
 package com.example.EventManagement.domain.organizeManageEvents;
 
+import com.example.EventManagement.domain.config.ReadRoutingContext;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface EventRoleRepository extends JpaRepository<EventRole,Long> {
 
 
-    List<EventRole> findByEventid(String eventid);
+    // the result goes into the query cache, so it is read from the primary
+    default List<EventRole> findByEventid(Long eventid) {
+        return ReadRoutingContext.cacheLoad(() -> findAllByEventid(eventid));
+    }
+
+    // dropped whenever manager_role is written, so a new or edited role shows up on the next read
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<EventRole> findAllByEventid(Long eventid);
 
 }
@@ -0,0 +1,16 @@
+package com.example.EventManagement.domain.organizeManageEvents;
+
+import com.example.EventManagement.domain.config.MappingConfig;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MappingConfig.class)
+public interface OME_mapper {
+
+    EventRole toEntity(EventRoleInDTO eventRoleInDTO);
+
+    EventRoleOUTDTO toOutDto(EventRole eventRole);
+
+    EventInvitation toEntity(EventInvitationInDTO eventInvitationInDTO);
+
+    EventInvitationOutDTO toOutDto(EventInvitation eventInvitation);
+}
@@ -2,9 +2,11 @@ package com.example.EventManagement.domain.organizeManageEvents;
 
 import com.example.EventManagement.domain.Event.Event;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Transactional(readOnly = true)
 public interface OME_repository extends JpaRepository<Event,Long> {
 
     // Derived query with projection
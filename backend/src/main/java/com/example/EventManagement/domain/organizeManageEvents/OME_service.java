@@ -1,18 +1,20 @@
 package com.example.EventManagement.domain.organizeManageEvents;
 
-import com.example.EventManagement.domain.Event.Event;
 import com.example.EventManagement.domain.Event.EventOutDto;
-import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.config.QueryFanOut;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
@@ -21,10 +23,12 @@ public class OME_service {
     private final OME_repository omeRepository;
     private final EventRoleRepository eventRoleRepository;
     private final EventInvitationRepository eventInvitationRepository;
-    private final EventRepository eventRepository;
+    private final EventService eventService;
 
-    @Autowired
-    private ModelMapper modelMapper;
+    private final OME_mapper omeMapper;
+
+    private final QueryFanOut queryFanOut;
+    private final MeterRegistry meterRegistry;
 
     public List<EventList_DTO> getEventsByCreator(Long userId) {
 
@@ -34,17 +38,17 @@ public class OME_service {
     public List<EventRoleOUTDTO> saveRoleData(EventRoleInDTO eventRoleInDTO) {
 
 
-        EventRole eventRole=modelMapper.map(eventRoleInDTO,EventRole.class);
+        EventRole eventRole=omeMapper.toEntity(eventRoleInDTO);
 
         eventRoleRepository.save(eventRole);
 
 
-        List<EventRole> eventRoles=eventRoleRepository.findByEventid(eventRoleInDTO.getEventid());
+        List<EventRole> eventRoles=eventRoleRepository.findByEventid(eventRole.getEventid());
 
 
 
         return eventRoles.stream()
-                .map(role -> modelMapper.map(role, EventRoleOUTDTO.class))
+                .map(omeMapper::toOutDto)
                 .toList();
 
 
@@ -54,25 +58,37 @@ public class OME_service {
 
     public Map<String, Object> getHomeData(String eventid) {
 
-        Map<String ,Object> data=new HashMap<>();
+        return Timer.builder("ome.home.data")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(() -> loadHomeData(eventid));
+    }
 
-        List<ManagerListDto>managerlist=eventInvitationRepository.getmangerlist();
+    // the three lists are independent queries and go out together; the event itself usually
+    // comes from the event cache, so the request thread reads it while they run
+    private Map<String, Object> loadHomeData(String eventid) {
 
-        List<EventRole> eventRoles=eventRoleRepository.findByEventid(eventid);
+        Map<String ,Object> data=new HashMap<>();
 
-        List<EventRoleOUTDTO>eventRoleOUTDTOS=eventRoles.stream()
-                .map(role -> modelMapper.map(role, EventRoleOUTDTO.class))
-                .toList();
+        CompletableFuture<List<ManagerListDto>> managers = queryFanOut.call(eventInvitationRepository::getmangerlist);
+
+        Long eventId = Long.parseLong(eventid);
 
-        List<EventInvitation>eventInvitations=eventInvitationRepository.findByEventid(eventid);
+        CompletableFuture<List<EventRoleOUTDTO>> roles = queryFanOut.call(() -> eventRoleRepository.findByEventid(eventId)
+                .stream()
+                .map(omeMapper::toOutDto)
+                .toList());
 
-        List<EventInvitationOutDTO>eventInvitationOutDTOS=eventInvitations.stream()
-                        .map(role->modelMapper.map(role,EventInvitationOutDTO.class))
-                                .toList();
+        CompletableFuture<List<EventInvitationOutDTO>> invitations = queryFanOut.call(() -> eventInvitationRepository.findByEventid(eventId)
+                .stream()
+                .map(omeMapper::toOutDto)
+                .toList());
 
-        Event event=eventRepository.findById(Long.parseLong(eventid)).orElseThrow();
+        EventOutDto eventOutDto=eventService.getEvent(eventId);
 
-        EventOutDto eventOutDto=modelMapper.map(event,EventOutDto.class);
+        List<ManagerListDto>managerlist=queryFanOut.await(managers);
+        List<EventRoleOUTDTO>eventRoleOUTDTOS=queryFanOut.await(roles);
+        List<EventInvitationOutDTO>eventInvitationOutDTOS=queryFanOut.await(invitations);
 
 
 
@@ -88,20 +104,21 @@ public class OME_service {
     }
 
 
+    @Transactional
     public EventInvitationOutDTO saveManagerInvitation(EventInvitationInDTO eventInvitationInDTO) {
 
-        EventInvitation eventInvitation=modelMapper.map(eventInvitationInDTO,EventInvitation.class);
+        EventInvitation eventInvitation=omeMapper.toEntity(eventInvitationInDTO);
 
         EventInvitation alreadyInvited=eventInvitationRepository.findByRoleidAndUserid(eventInvitation.getRoleid(),eventInvitation.getUserid());
 
         EventInvitationOutDTO eventInvitationOutDTO;
         if(alreadyInvited!=null){
-            eventInvitationOutDTO=modelMapper.map(alreadyInvited,EventInvitationOutDTO.class);
+            eventInvitationOutDTO=omeMapper.toOutDto(alreadyInvited);
 
         }else {
             eventInvitationRepository.save(eventInvitation);
 
-            eventInvitationOutDTO = modelMapper.map(eventInvitation, EventInvitationOutDTO.class);
+            eventInvitationOutDTO = omeMapper.toOutDto(eventInvitation);
         }
 
 
@@ -116,14 +133,14 @@ public class OME_service {
 
     public List<EventInvitationProjection> GetManagerInvitationData(String userid) {
 
-        List<EventInvitationProjection> list=eventInvitationRepository.findByUserid(userid);
+        List<EventInvitationProjection> list=eventInvitationRepository.findByUserid(Long.parseLong(userid));
 
-//        List<EventInvitationOutDTO> result=list.stream().map(ele->(modelMapper.map(ele,EventInvitationOutDTO.class))).toList();
 
 
         return list;
     }
 
+    @Transactional
     public String managerAcceptInvitation(ManagerAcceptInvtationResponceDto mrDto) {
 
         System.out.println(mrDto);
@@ -161,22 +178,23 @@ public class OME_service {
         return "Invitation " + invitation.getStatus() + " successfully.";
     }
 
+    @Transactional
     public List<EventInvitationOutDTO> selectManagerByorg(String invitationid, String managerid) {
 
-        EventInvitation eventInvitation=eventInvitationRepository.findByIdAndUserid(Long.parseLong(invitationid),managerid);
+        EventInvitation eventInvitation=eventInvitationRepository.findByIdAndUserid(Long.parseLong(invitationid),Long.parseLong(managerid));
 
-        eventInvitation.setSelected(Integer.toString(1));
+        eventInvitation.setSelected(true);
 
         eventInvitation.setStatus("SELECTED");
 
         eventInvitationRepository.save(eventInvitation);
 
-        String eventid=eventInvitation.getEventid();
+        Long eventid=eventInvitation.getEventid();
 
 
         List<EventInvitation> res=eventInvitationRepository.findByEventid(eventid);
 
-        List<EventInvitationOutDTO> response=res.stream().map(r->modelMapper.map(r,EventInvitationOutDTO.class)).toList();
+        List<EventInvitationOutDTO> response=res.stream().map(omeMapper::toOutDto).toList();
 
 
 
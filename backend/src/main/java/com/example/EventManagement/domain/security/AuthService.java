@@ -8,6 +8,7 @@ import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.entity.type.AuthProviderType;
 import com.example.EventManagement.domain.entity.type.UserType;
 import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.web.ResourceVersions;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +29,8 @@ public class AuthService {
     private final AuthUtil authUtil;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ResourceVersions resourceVersions;
+    private final JwtPrincipalCache principalCache;
 
     public LoginResponceDTO login(LoginRequestDTO loginRequestDTO) {
 
@@ -94,9 +97,11 @@ public class AuthService {
             user=signUpInternal(new SignupRequestDTO(username,null,username, UserType.STUDENT),authProviderType,providerId);
         } else if(user != null) {
         if(email != null && !email.isBlank() && !email.equals(user.getUsername())) {
+            principalCache.invalidate(user.getUsername());
             user.setUsername(email);
 //            user.setProfileCompleted("13");
             userRepository.save(user);
+            resourceVersions.bump(ResourceVersions.profile(user.getId()));
         }
     } else {
         throw new BadCredentialsException("This email is already registered with provider "+emailUser.getProviderType());
@@ -3,7 +3,9 @@ package com.example.EventManagement.domain.security;
 
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.entity.type.AuthProviderType;
+import com.example.EventManagement.domain.entity.type.UserType;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -19,30 +21,54 @@ import java.util.Date;
 @Slf4j
 public class AuthUtil {
 
-    @Value("${jwt.secretKey}")
-    private String jwtSecretKey;
+    static final String USER_ID = "userId";
+    static final String USER_TYPE = "usertype";
+    static final String PROFILE_COMPLETED = "profileCompleted";
 
-    private SecretKey getSecretKey(){
-        return Keys.hmacShaKeyFor(jwtSecretKey.getBytes(StandardCharsets.UTF_8));
+    // the key and parser are immutable and thread-safe, so they are built once instead of per token
+    private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+
+    public AuthUtil(@Value("${jwt.secretKey}") String jwtSecretKey) {
+        this.secretKey = Keys.hmacShaKeyFor(jwtSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     public String generateAccessToken(User user){
         return Jwts.builder()
                 .subject(user.getUsername())
-                .claim("userId",user.getId().toString())
+                .claim(USER_ID,user.getId().toString())
+                .claim(USER_TYPE,user.getUsertype() == null ? null : user.getUsertype().name())
+                .claim(PROFILE_COMPLETED,user.getProfileCompleted())
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis()+1000*60*600))
-                .signWith(getSecretKey())
+                .signWith(secretKey)
                 .compact();
     }
 
+    public Claims parseToken(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
     public String getUsernamefromToken(String token) {
-        Claims claims =  Jwts.parser()
-                .verifyWith(getSecretKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
+        return parseToken(token).getSubject();
+    }
+
+    // Rebuilds the authenticated user from the signed claims alone. Returns null for tokens issued
+    // before usertype and profileCompleted were signed in, which still need a lookup by username.
+    public User getPrincipalFromClaims(Claims claims) {
+        String userId = claims.get(USER_ID, String.class);
+        String usertype = claims.get(USER_TYPE, String.class);
+        String profileCompleted = claims.get(PROFILE_COMPLETED, String.class);
+        if (userId == null || usertype == null || profileCompleted == null) {
+            return null;
+        }
+        return User.builder()
+                .id(Long.valueOf(userId))
+                .username(claims.getSubject())
+                .usertype(UserType.valueOf(usertype))
+                .profileCompleted(profileCompleted)
+                .build();
     }
 
     public AuthProviderType getProviderTypeFromRegistrationId(String registrationId) {
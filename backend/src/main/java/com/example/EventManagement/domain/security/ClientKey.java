@@ -0,0 +1,21 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// Identifies the caller once JwtAuthFilter has run: the username when signed in, the IP otherwise.
+public final class ClientKey {
+
+    private ClientKey() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return "user:" + user.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -2,6 +2,7 @@ package com.example.EventManagement.domain.security;
 
 import com.example.EventManagement.domain.entity.User;
 import com.example.EventManagement.domain.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +24,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final UserRepository userRepository;
     private final AuthUtil authUtil;
+    private final JwtPrincipalCache principalCache;
 
     private final HandlerExceptionResolver handlerExceptionResolver;
 
@@ -30,7 +32,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         try {
-            log.info("incoming request {}", request.getRequestURL());
+            log.debug("incoming request {}", request.getRequestURL());
 
             final String requestTokenHeader = request.getHeader("Authorization");
 
@@ -40,10 +42,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
 
             String token = requestTokenHeader.split("Bearer ")[1];
-            String username = authUtil.getUsernamefromToken(token);
+            Claims claims = authUtil.parseToken(token);
+            String username = claims.getSubject();
 
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                User user = userRepository.findByUsername(username).orElseThrow();
+                User user = authUtil.getPrincipalFromClaims(claims);
+                if (user == null) {
+                    user = principalCache.get(username, name -> userRepository.findByUsername(name).orElseThrow());
+                }
                 UsernamePasswordAuthenticationToken token1 = new UsernamePasswordAuthenticationToken(user, null, null);
                 SecurityContextHolder.getContext().setAuthentication(token1);
             }
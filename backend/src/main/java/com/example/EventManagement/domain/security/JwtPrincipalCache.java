@@ -0,0 +1,37 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// Users looked up for tokens that carry no usertype/profile claims (issued before those were
+// signed in). Bounded and short-lived, so a changed profile is picked up after at most the TTL;
+// max-size 0 turns it off and every such token goes to the database again.
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, User> users;
+
+    public JwtPrincipalCache(@Value("${app.jwt.principal-cache.max-size:10000}") long maxSize,
+                             @Value("${app.jwt.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.users = maxSize <= 0 ? null : Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public User get(String username, Function<String, User> loader) {
+        return users == null ? loader.apply(username) : users.get(username, loader);
+    }
+
+    public void invalidate(String username) {
+        if (users != null) {
+            users.invalidate(username);
+        }
+    }
+}
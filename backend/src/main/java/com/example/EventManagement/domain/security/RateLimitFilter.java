@@ -0,0 +1,102 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.error.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Token bucket per route group and client, right after JwtAuthFilter so a signed-in client is
+// limited by its username and anyone else by IP. Buckets live in a size-bounded cache that
+// forgets a client once it has been idle for app.rate-limit.idle-seconds.
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final Ticker ticker;
+    private final Cache<String, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public RateLimitFilter(RateLimitProperties properties, HandlerExceptionResolver handlerExceptionResolver,
+                           MeterRegistry meterRegistry) {
+        this(properties, handlerExceptionResolver, meterRegistry, Ticker.systemTicker());
+    }
+
+    RateLimitFilter(RateLimitProperties properties, HandlerExceptionResolver handlerExceptionResolver,
+                    MeterRegistry meterRegistry, Ticker ticker) {
+        this.properties = properties;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.meterRegistry = meterRegistry;
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleSeconds()))
+                .ticker(ticker)
+                .build();
+        Gauge.builder("http.rate_limit.buckets", buckets, Cache::estimatedSize)
+                .description("Clients currently holding a rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimitProperties.Group group = groupFor(request.getRequestURI().substring(request.getContextPath().length()));
+        if (group != null) {
+            long now = ticker.read();
+            TokenBucket bucket = buckets.get(group.getName() + "|" + ClientKey.of(request),
+                    key -> new TokenBucket(group.getCapacity(), group.getRefillPerSecond(), now));
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                Counter.builder("http.rate_limit.rejected")
+                        .tag("group", group.getName())
+                        .register(meterRegistry)
+                        .increment();
+                long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+                handlerExceptionResolver.resolveException(request, response, null,
+                        new RateLimitExceededException(group.getName(), retryAfter));
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    long bucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private RateLimitProperties.Group groupFor(String path) {
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            for (String pattern : group.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.EventManagement.domain.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// app.rate-limit.* - route groups are tried in order and the first whose paths match wins.
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // a client's bucket is dropped after this long without a request; it comes back full
+    private long idleSeconds = 600;
+
+    private long maxBuckets = 100_000;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+
+        private String name;
+
+        // Ant-style patterns, e.g. /OME/GetData/**
+        private List<String> paths = new ArrayList<>();
+
+        // burst size
+        private long capacity;
+
+        private double refillPerSecond;
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.EventManagement.domain.security;
 
+import com.example.EventManagement.domain.config.ReadYourWritesFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
@@ -17,6 +19,8 @@ public class WebSecurityConfig {
 
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final ReadYourWritesFilter readYourWritesFilter;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
 
     @Bean
@@ -28,12 +32,16 @@ public class WebSecurityConfig {
                 .sessionManagement(sessionConfig ->
                         sessionConfig.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth->auth
+                                // a rebuild re-reads the whole events table
+                                .requestMatchers(HttpMethod.POST, "/Event/search/rebuild").authenticated()
                                 .requestMatchers("/Public/**","/auth/**","/Event/**","/Student/**","/Manager/**","/Organizer/**","/SER/**","/OME/**").permitAll()
 //                                .requestMatchers("/admin/**").hasRole("ADMIN")
 //                                .requestMatchers("/stationOwner/**").hasRole("STATIONOWNER")
                                 .anyRequest().authenticated()
                         )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthFilter.class)
+                .addFilterAfter(readYourWritesFilter, RateLimitFilter.class)
                 .oauth2Login(oAuth->oAuth.failureHandler(
                         (request, response, exception) ->{
                                 log.error("Oauth2 error: {}",exception.getMessage());
@@ -0,0 +1,23 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import java.time.LocalDateTime;
+
+// One event joined with one of its registrations; the registration columns are null
+// for an event nobody has applied to yet.
+public interface EventApplicantExportRow {
+
+        Long getEventId();
+        String getTitle();
+        LocalDateTime getStartAt();
+        LocalDateTime getEndAt();
+        String getLocation();
+        String getCategory();
+        String getEventStatus();
+        Integer getRequiredVolunteer();
+        Long getRegistrationId();
+        String getName();
+        String getUsername();
+        String getRegistrationStatus();
+        String getSkills();
+        String getAvailability();
+}
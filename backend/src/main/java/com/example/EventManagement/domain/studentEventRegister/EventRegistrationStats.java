@@ -0,0 +1,46 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+// Per-event registration counters behind the manager dashboard, kept in step with
+// student_event_register by EventRegistrationStatsService inside the writing transaction.
+// Each event has up to SHARDS rows; its counts are their sums.
+@Entity
+@Table(name="event_registration_stats")
+@IdClass(EventRegistrationStats.Key.class)
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@ToString
+public class EventRegistrationStats {
+
+    public static final int SHARDS = 16;
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    private int shard;
+
+    private long total;
+
+    private long pending;
+
+    private long approved;
+
+    private long rejected;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long eventId;
+        private int shard;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+// The native writes name the tables they touch; without them Hibernate cannot tell what a native
+// statement changed and empties every second-level cache region on each registration. The same
+// names decide which pending inserts are flushed before the statement runs.
+public interface EventRegistrationStatsRepository extends JpaRepository<EventRegistrationStats, Long> {
+
+    // student_event_register is listed so the caller's registration insert is flushed first and
+    // the upsert stays the last statement of the transaction. Only the given shard's row is locked
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_registration_stats"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_event_register")
+    })
+    @Query(value = """
+            INSERT INTO event_registration_stats (event_id, shard, total, pending, approved, rejected)
+            VALUES (:eventId, :shard, :total, :pending, :approved, :rejected)
+            ON DUPLICATE KEY UPDATE
+                total = total + :total,
+                pending = pending + :pending,
+                approved = approved + :approved,
+                rejected = rejected + :rejected
+            """, nativeQuery = true)
+    int addCounts(@Param("eventId") Long eventId,
+                  @Param("shard") int shard,
+                  @Param("total") long total,
+                  @Param("pending") long pending,
+                  @Param("approved") long approved,
+                  @Param("rejected") long rejected);
+
+
+    // counts events whose registrations were written before the counters existed, into shard 0;
+    // it reads student_event_register too, so pending registrations are flushed before it runs
+    @Modifying
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_registration_stats"),
+            @QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_event_register")
+    })
+    @Query(value = """
+            INSERT INTO event_registration_stats (event_id, shard, total, pending, approved, rejected)
+            SELECT s.event_id,
+                0,
+                COUNT(*),
+                SUM(CASE WHEN s.status = 'PENDING' THEN 1 ELSE 0 END),
+                SUM(CASE WHEN s.status = 'APPROVED' THEN 1 ELSE 0 END),
+                SUM(CASE WHEN s.status = 'REJECTED' THEN 1 ELSE 0 END)
+            FROM student_event_register s
+            WHERE NOT EXISTS (SELECT 1 FROM event_registration_stats r WHERE r.event_id = s.event_id)
+            GROUP BY s.event_id
+            """, nativeQuery = true)
+    int backfillMissing();
+}
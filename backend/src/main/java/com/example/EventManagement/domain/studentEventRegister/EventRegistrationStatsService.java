@@ -0,0 +1,71 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Callers record a change in the same transaction that writes the registration rows, and as
+// the last statement: the upsert locks the counter row until commit, so keeping it last keeps
+// that lock short. Each change goes to one of the event's EventRegistrationStats.SHARDS rows,
+// picked at random, so registrations for a popular event rarely wait on each other's counter
+// lock; readers sum the rows.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventRegistrationStatsService {
+
+    private final EventRegistrationStatsRepository statsRepository;
+
+    public void registered(Long eventId, String status) {
+        long[] counts = new long[3];
+        count(counts, status, 1);
+        statsRepository.addCounts(eventId, shard(), 1, counts[0], counts[1], counts[2]);
+    }
+
+    public void statusChanged(Long eventId, String from, String to) {
+        statusesChanged(eventId, Collections.singletonList(from), Collections.singletonList(to));
+    }
+
+    // from.get(i) became to.get(i); one upsert for the whole batch
+    public void statusesChanged(Long eventId, List<String> from, List<String> to) {
+        long[] counts = new long[3];
+        for (int i = 0; i < from.size(); i++) {
+            count(counts, from.get(i), -1);
+            count(counts, to.get(i), 1);
+        }
+        if (counts[0] != 0 || counts[1] != 0 || counts[2] != 0) {
+            statsRepository.addCounts(eventId, shard(), 0, counts[0], counts[1], counts[2]);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOnStartup() {
+        int events = statsRepository.backfillMissing();
+        if (events > 0) {
+            log.info("Backfilled registration counters for {} events", events);
+        }
+    }
+
+    private static int shard() {
+        return ThreadLocalRandom.current().nextInt(EventRegistrationStats.SHARDS);
+    }
+
+    // case-insensitive, like the COUNT(CASE WHEN status = ...) it replaces under MySQL's collation
+    private static void count(long[] counts, String status, int delta) {
+        if ("PENDING".equalsIgnoreCase(status)) {
+            counts[0] += delta;
+        } else if ("APPROVED".equalsIgnoreCase(status)) {
+            counts[1] += delta;
+        } else if ("REJECTED".equalsIgnoreCase(status)) {
+            counts[2] += delta;
+        }
+    }
+}
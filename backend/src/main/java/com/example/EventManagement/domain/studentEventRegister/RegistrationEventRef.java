@@ -0,0 +1,8 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+public interface RegistrationEventRef {
+
+        Long getId();
+        Long getEventId();
+        String getStatus();
+}
@@ -25,7 +25,7 @@ public class SER_Controller {
     }
 
     @PatchMapping("/saveEventstats/{eventid}/save")
-    public ResponseEntity<String> saveEventstddata(@PathVariable(name="eventid") String eventid,
+    public ResponseEntity<List<StudentStatusUpdateResultDTO>> saveEventstddata(@PathVariable(name="eventid") String eventid,
                                                    @RequestBody List<StudentStatusUpdateDTO> updates){
 
         return ResponseEntity.ok(serService.saveEventstddata(eventid,updates));
@@ -1,16 +1,72 @@
 package com.example.EventManagement.domain.studentEventRegister;
 
 import com.example.EventManagement.domain.Event.Event;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+@Transactional(readOnly = true)
 public interface SER_repository extends JpaRepository<Event,Long> {
 
+    // Export fetch sizes, see the export streams below: Integer.MIN_VALUE on MySQL, a plain
+    // batch of rows everywhere else
+    String STREAM_FETCH_SIZE = "-2147483648";
+    String BATCH_FETCH_SIZE = "500";
+
+    String EVENT_STUDENTDATA_EXPORT = """
+            SELECT s.id,
+            	u.name,
+            	u.username,
+            	st.university,
+            	st.degree,
+            	st.current_year,
+            	s.skills,
+            	s.status,
+            	s.availability,
+            	st.marks,
+            	st.bio
+            
+             FROM student_event_register s
+            LEFT JOIN user u ON u.id=s.user_id
+            LEFT JOIN student st ON st.user_id=u.id
+            WHERE event_id= :eventid
+            ORDER BY s.id
+            """;
+
+    String EVENT_APPLICANTS_EXPORT = """
+            SELECT e.id AS eventId,
+            	e.title AS title,
+            	e.start_at AS startAt,
+            	e.end_at AS endAt,
+            	e.location AS location,
+            	e.category AS category,
+            	e.status AS eventStatus,
+            	e.required_volunteer AS requiredVolunteer,
+            	s.id AS registrationId,
+            	u.name AS name,
+            	u.username AS username,
+            	s.status AS registrationStatus,
+            	s.skills AS skills,
+            	s.availability AS availability
+            
+             FROM events e
+            LEFT JOIN student_event_register s ON s.event_id=e.id
+            LEFT JOIN user u ON u.id=s.user_id
+            ORDER BY e.id, s.id
+            """;
+
+    // counters are the sums of each event's event_registration_stats shards; the invitation
+    // filter is a subquery so several invitation rows for one event do not multiply its counts
     @Query(value = """
              SELECT
                         e.id AS eventId,
@@ -18,17 +74,16 @@ public interface SER_repository extends JpaRepository<Event,Long> {
                         e.location AS location,
                         DATE(e.start_at) AS start_at,
                         e.required_volunteer,
-                        COUNT(s.id) AS totalStudents,
-                        COUNT(CASE WHEN s.status = 'PENDING' THEN 1 END) AS pendingCount,
-                        COUNT(CASE WHEN s.status = 'APPROVED' THEN 1 END) AS approvedCount,
-                        COUNT(CASE WHEN s.status = 'REJECTED' THEN 1 END) AS rejectedCount
+                        COALESCE(SUM(r.total), 0) AS totalStudents,
+                        COALESCE(SUM(r.pending), 0) AS pendingCount,
+                        COALESCE(SUM(r.approved), 0) AS approvedCount,
+                        COALESCE(SUM(r.rejected), 0) AS rejectedCount
                     FROM events e
-                    LEFT JOIN student_event_register s ON e.id = s.event_id
-                    LEFT JOIN event_invitation ei ON e.id=ei.eventid
-                    WHERE ei.selected=1 AND ei.userid=:userid
-                    GROUP BY e.id, e.title, e.location, e.start_at
+                    LEFT JOIN event_registration_stats r ON r.event_id = e.id
+                    WHERE e.id IN (SELECT ei.eventid FROM event_invitation ei WHERE ei.selected=1 AND ei.userid=:userid)
+                    GROUP BY e.id, e.title, e.location, e.start_at, e.required_volunteer
         """, nativeQuery = true)
-    List<SER_Eventlist_DTO> getEventStats(@Param("userid") String userid);
+    List<SER_Eventlist_DTO> getEventStats(@Param("userid") Long userid);
 
 
 
@@ -53,12 +108,46 @@ public interface SER_repository extends JpaRepository<Event,Long> {
     List<EventStudentData_DTO> getEventStudentdata(@Param("eventid") String eventid);
 
 
+    // Export streams: Integer.MIN_VALUE is Connector/J's signal to stream the rows one by one
+    // instead of buffering the whole result set; the connection is busy until the stream is
+    // closed. Only these queries ask for it, everything else keeps the client-side statements.
+    // Other drivers reject a negative fetch size (H2 does), so ExportService picks the batched
+    // variants there.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = EVENT_STUDENTDATA_EXPORT, nativeQuery = true)
+    Stream<EventStudentData_DTO> streamEventStudentdata(@Param("eventid") String eventid);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BATCH_FETCH_SIZE))
+    @Query(value = EVENT_STUDENTDATA_EXPORT, nativeQuery = true)
+    Stream<EventStudentData_DTO> streamEventStudentdataInBatches(@Param("eventid") String eventid);
+
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query(value = EVENT_APPLICANTS_EXPORT, nativeQuery = true)
+    Stream<EventApplicantExportRow> streamEventApplicants();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = BATCH_FETCH_SIZE))
+    @Query(value = EVENT_APPLICANTS_EXPORT, nativeQuery = true)
+    Stream<EventApplicantExportRow> streamEventApplicantsInBatches();
+
+
+    // Locks the rows until the caller's transaction ends, so two saves of the same registration
+    // cannot both see its old status and both move the stats counters for it. Ascending id order
+    // keeps concurrent saves from locking the same rows in opposite orders.
+    @Transactional(propagation = Propagation.MANDATORY)
+    @Query(value = "SELECT id, event_id AS eventId, status FROM student_event_register WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<RegistrationEventRef> findEventRefs(@Param("ids") Collection<Long> ids);
+
+
+    // names the table, so the native update does not empty the second-level cache
     @Modifying
     @Transactional
-    @Query(value = "UPDATE student_event_register SET status = :status WHERE event_id = :eventid AND id = :id", nativeQuery = true)
-    void updateStudentStatus(@Param("eventid") String eventid,
-                             @Param("id") Long id,
-                             @Param("status") String status);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_event_register"))
+    @Query(value = "UPDATE student_event_register SET status = :status WHERE event_id = :eventid AND id IN (:ids)", nativeQuery = true)
+    int updateStudentStatuses(@Param("eventid") Long eventid,
+                              @Param("ids") Collection<Long> ids,
+                              @Param("status") String status);
 
 
 }
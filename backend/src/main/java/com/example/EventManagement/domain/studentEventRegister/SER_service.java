@@ -2,14 +2,16 @@ package com.example.EventManagement.domain.studentEventRegister;
 
 import com.example.EventManagement.domain.Event.Event;
 import com.example.EventManagement.domain.Event.EventOutDto;
-import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.Student.EventCapacityGate;
+import com.example.EventManagement.domain.config.SingleFlight;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,50 +19,117 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class SER_service {
 
-    @Autowired
-    private ModelMapper modelMapper;
+    // keeps IN lists well under MySQL's packet and prepared-statement placeholder limits
+    private static final int STATUS_UPDATE_CHUNK = 1000;
 
     private final SER_repository serRepository;
 
-    private final EventRepository eventRepository;
+    private final EventService eventService;
 
+    private final EventRegistrationStatsService statsService;
 
-    public List<SER_Eventlist_DTO> getEventStats(String userid) {
-        return serRepository.getEventStats(userid);
-    }
+    private final SingleFlight singleFlight;
 
+    private final EventCapacityGate capacityGate;
 
-    public Map<String, Object> getEventStudentdata(String eventid) {
 
+    public List<SER_Eventlist_DTO> getEventStats(String userid) {
+        return serRepository.getEventStats(Long.parseLong(userid));
+    }
 
-        Event event = eventRepository.findById(Long.parseLong(eventid))
-                .orElseThrow();
 
-        EventOutDto eventOutDto = modelMapper.map(event, EventOutDto.class);
+    // an announced event is opened by many organizers' screens at once; they share one read
+    public Map<String, Object> getEventStudentdata(String eventid) {
 
-        List<EventStudentData_DTO> students = serRepository.getEventStudentdata(eventid);
+        return singleFlight.execute(SingleFlight.EVENT_REGISTRATIONS, Long.parseLong(eventid), () -> {
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("event", eventOutDto);
-        response.put("students", students);
+            EventOutDto eventOutDto = eventService.getEvent(Long.parseLong(eventid));
 
-        return response;
+            List<EventStudentData_DTO> students = serRepository.getEventStudentdata(eventid);
 
+            Map<String, Object> response = new HashMap<>();
+            response.put("event", eventOutDto);
+            response.put("students", students);
 
+            return response;
+        });
     }
 
 
+    // One SELECT ... FOR UPDATE to classify the rows, then one UPDATE ... IN per distinct status, each in
+    // chunks of STATUS_UPDATE_CHUNK ids; a save of 2,000 applicants is a handful of statements.
     @Transactional
-    public String saveEventstddata(String eventid, List<StudentStatusUpdateDTO> updates) {
+    public List<StudentStatusUpdateResultDTO> saveEventstddata(String eventid, List<StudentStatusUpdateDTO> updates) {
 
+        Long event = Long.parseLong(eventid);
 
+        // the same id twice keeps its last status, as the per-row loop did
+        Map<Long, String> statusById = new LinkedHashMap<>();
         for (StudentStatusUpdateDTO update : updates) {
+            statusById.put(update.getId(), update.getStatus());
+        }
 
-            System.out.println(eventid+" " +update.getId()+" "+update.getStatus());
-            serRepository.updateStudentStatus(eventid, update.getId(), update.getStatus());
+        Map<Long, RegistrationEventRef> refById = new HashMap<>();
+        // locked in id order, see findEventRefs
+        for (List<Long> chunk : chunks(statusById.keySet().stream().sorted().toList())) {
+            for (RegistrationEventRef ref : serRepository.findEventRefs(chunk)) {
+                refById.put(ref.getId(), ref);
+            }
         }
 
-        return "saved";
+        Map<Long, StudentStatusUpdateOutcome> outcomes = new HashMap<>();
+        Map<String, List<Long>> idsByStatus = new LinkedHashMap<>();
+        List<String> previousStatuses = new ArrayList<>();
+        List<String> newStatuses = new ArrayList<>();
+        // the event's capacity is only read if a rejected applicant is taken back
+        Integer capacity = null;
+        boolean capacityRead = false;
+        for (Map.Entry<Long, String> entry : statusById.entrySet()) {
+            Long id = entry.getKey();
+            String status = entry.getValue();
+            RegistrationEventRef ref = refById.get(id);
+            if (ref == null) {
+                outcomes.put(id, StudentStatusUpdateOutcome.NOT_FOUND);
+                continue;
+            }
+            if (!ref.getEventId().equals(event)) {
+                outcomes.put(id, StudentStatusUpdateOutcome.WRONG_EVENT);
+                continue;
+            }
+            if (!capacityRead && !EventCapacityGate.holdsSeat(ref.getStatus()) && EventCapacityGate.holdsSeat(status)) {
+                capacity = serRepository.findById(event).map(Event::getRequiredVolunteer).orElse(null);
+                capacityRead = true;
+            }
+            if (!capacityGate.statusChanged(event, capacity, ref.getStatus(), status)) {
+                outcomes.put(id, StudentStatusUpdateOutcome.EVENT_FULL);
+                continue;
+            }
+            outcomes.put(id, StudentStatusUpdateOutcome.UPDATED);
+            idsByStatus.computeIfAbsent(status, s -> new ArrayList<>()).add(id);
+            previousStatuses.add(ref.getStatus());
+            newStatuses.add(status);
+        }
 
+        idsByStatus.forEach((status, ids) -> {
+            for (List<Long> chunk : chunks(ids)) {
+                serRepository.updateStudentStatuses(event, chunk, status);
+            }
+        });
+        statsService.statusesChanged(event, previousStatuses, newStatuses);
+        singleFlight.forget(SingleFlight.EVENT_REGISTRATIONS, event);
+
+        return updates.stream()
+                .map(StudentStatusUpdateDTO::getId)
+                .distinct()
+                .map(id -> new StudentStatusUpdateResultDTO(id, outcomes.get(id)))
+                .toList();
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK) {
+            chunks.add(ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK, ids.size())));
+        }
+        return chunks;
     }
 }
@@ -0,0 +1,9 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+public enum StudentStatusUpdateOutcome {
+    UPDATED,
+    NOT_FOUND,
+    WRONG_EVENT,
+    // a rejected applicant could not be taken back: every seat is taken
+    EVENT_FULL
+}
@@ -0,0 +1,13 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentStatusUpdateResultDTO {
+    Long id;
+    StudentStatusUpdateOutcome outcome;
+}
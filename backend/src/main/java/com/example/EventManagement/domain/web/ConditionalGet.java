@@ -0,0 +1,109 @@
+package com.example.EventManagement.domain.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+// Answers GETs carrying a matching If-None-Match with a bodyless 304 before the body is
+// loaded. The tag has to be read before the body so it can only ever be older than the data.
+//
+// The same URL answers JSON or CBOR depending on Accept, so the representation is picked here,
+// before the body, and named in the tag: a cache holding the JSON body must not revalidate it
+// for a CBOR client. Vary: Accept keeps shared caches from handing one to the other.
+public final class ConditionalGet {
+
+    // shared caches may store catalog reads but must revalidate on every use
+    public static final CacheControl PUBLIC = CacheControl.noCache().cachePublic();
+    // profiles stay out of shared caches
+    public static final CacheControl PRIVATE = CacheControl.noCache().cachePrivate();
+
+    // in the converters' order, so a tie goes to JSON as it would there
+    private static final List<MediaType> REPRESENTATIONS = List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR);
+
+    private ConditionalGet() {
+    }
+
+    public static <T> ResponseEntity<T> ok(WebRequest request, String etag, CacheControl cacheControl, Supplier<T> body) {
+        MediaType representation = representation(request.getHeader(HttpHeaders.ACCEPT));
+        String tag = representation == null ? etag : tagged(etag, representation);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), tag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(tag).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT);
+        // the converter has to write what the tag names
+        if (representation != null) {
+            response.contentType(representation);
+        }
+        return response.body(body.get());
+    }
+
+    // JSON or CBOR, whichever Accept ranks higher: by q, then by how specifically it was asked
+    // for. null when it takes neither; MVC answers 406 then, and the plain tag is used
+    static MediaType representation(String accept) {
+        List<MediaType> accepted;
+        try {
+            accepted = accept == null || accept.isBlank() ? List.of(MediaType.ALL) : MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MediaType best = null;
+        MediaType bestRange = null;
+        for (MediaType candidate : REPRESENTATIONS) {
+            MediaType range = closestRange(accepted, candidate);
+            if (range == null || range.getQualityValue() == 0) {
+                continue;
+            }
+            if (bestRange == null || range.getQualityValue() > bestRange.getQualityValue()
+                    || (range.getQualityValue() == bestRange.getQualityValue() && range.isMoreSpecific(bestRange))) {
+                best = candidate;
+                bestRange = range;
+            }
+        }
+        return best;
+    }
+
+    // the most specific accepted range covering the type, whose q is the one that applies to it
+    private static MediaType closestRange(List<MediaType> accepted, MediaType type) {
+        MediaType closest = null;
+        for (MediaType range : accepted) {
+            if (range.includes(type) && (closest == null || range.isMoreSpecific(closest))) {
+                closest = range;
+            }
+        }
+        return closest;
+    }
+
+    // "epoch.version" becomes "epoch.version-json" or "epoch.version-cbor"
+    private static String tagged(String etag, MediaType representation) {
+        return etag.substring(0, etag.length() - 1) + "-" + representation.getSubtype() + "\"";
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match uses weak comparison, so a W/ prefix added by a proxy still matches
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.EventManagement.domain.web;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// The properties a client asked for with ?fields=a,b,c. Without the parameter everything is
+// written and loaded. With it, FieldSelectionAdvice leaves the other properties of @JsonFilter(FILTER)
+// types out of the JSON, and services that take a FieldSelection leave their columns out of the select.
+// Unknown names are ignored.
+public final class FieldSelection {
+
+    public static final String PARAMETER = "fields";
+    public static final String FILTER = "fieldSelection";
+
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> names;
+
+    private FieldSelection(Set<String> names) {
+        this.names = names;
+    }
+
+    public static FieldSelection of(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return names.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    // only meaningful when !isAll()
+    public Set<String> names() {
+        return names == null ? Set.of() : names;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.EventManagement.domain.web;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory version counters behind the strong ETags of polled reads, so a matching
+// If-None-Match is answered without touching the database. The boot epoch is part of
+// every tag: after a restart each client revalidates once instead of trusting old tags.
+@Component
+public class ResourceVersions {
+
+    public static final String EVENTS = "events";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public static String event(Long id) {
+        return "event:" + id;
+    }
+
+    // one key per user: the student, manager and organizer profiles all embed the user's name/email
+    public static String profile(Long userid) {
+        return "profile:" + userid;
+    }
+
+    public String etag(String key) {
+        AtomicLong version = versions.get(key);
+        return "\"" + epoch + "." + (version == null ? 0 : version.get()) + "\"";
+    }
+
+    // inside a transaction the bump waits for the commit, so a tag is never newer than the data
+    public void bump(String... keys) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(keys);
+                }
+            });
+        } else {
+            increment(keys);
+        }
+    }
+
+    private void increment(String... keys) {
+        for (String key : keys) {
+            versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+}
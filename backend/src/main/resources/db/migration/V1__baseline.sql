@@ -0,0 +1,183 @@
+-- Schema as Hibernate created it with ddl-auto=update before migrations took over. Databases
+-- that already have these tables are baselined at this version and start from V2.
+
+create table book_entity (
+    id bigint not null auto_increment,
+    authername varchar(255),
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table event_invitation (
+    id bigint not null auto_increment,
+    responded_at datetime(6),
+    sent_at datetime(6),
+    eventid varchar(255),
+    manager_msg varchar(255),
+    proposed_budget varchar(255),
+    roleid varchar(255),
+    selected varchar(255),
+    status varchar(255),
+    userid varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table events (
+    managedby_manager bit not null,
+    required_volunteer integer,
+    created_by_id bigint,
+    end_at datetime(6),
+    id bigint not null auto_increment,
+    start_at datetime(6),
+    description varchar(2000),
+    category varchar(255),
+    cost varchar(255),
+    location varchar(255),
+    status varchar(255),
+    tags varchar(255),
+    title varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table manager (
+    birth_date date,
+    id bigint not null auto_increment,
+    user_id bigint,
+    achievements varchar(255),
+    address varchar(255),
+    availability varchar(255),
+    bio varchar(255),
+    budget_range varchar(255),
+    certifications varchar(255),
+    city varchar(255),
+    company varchar(255),
+    current_salary varchar(255),
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relation varchar(255),
+    event_sizes varchar(255),
+    event_types varchar(255),
+    expected_salary varchar(255),
+    industry varchar(255),
+    job_title varchar(255),
+    languages varchar(255),
+    management_level varchar(255),
+    management_philosophy varchar(255),
+    phone varchar(255),
+    preferred_roles varchar(255),
+    specializations varchar(255),
+    state varchar(255),
+    team_size varchar(255),
+    years_exp varchar(255),
+    zipcode varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table manager_role (
+    deadline date,
+    id bigint not null auto_increment,
+    budget varchar(255),
+    currency varchar(255),
+    description varchar(255),
+    eventid varchar(255),
+    requirments varchar(255),
+    responsibilities varchar(255),
+    title varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table organizer (
+    birth_date date,
+    id bigint not null auto_increment,
+    user_id bigint,
+    average_event_budget varchar(255),
+    business_address varchar(255),
+    business_email varchar(255),
+    business_model varchar(255),
+    business_phone varchar(255),
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relation varchar(255),
+    established_year varchar(255),
+    industry varchar(255),
+    organization_bio varchar(255),
+    organization_name varchar(255),
+    organization_type varchar(255),
+    personal_address varchar(255),
+    personal_city varchar(255),
+    personal_state varchar(255),
+    personal_zipcode varchar(255),
+    phone varchar(255),
+    target_audience varchar(255),
+    tax_id varchar(255),
+    team_size varchar(255),
+    website varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table student (
+    birthdate date,
+    id bigint not null auto_increment,
+    user_id bigint,
+    address varchar(255),
+    availability varchar(255),
+    bio varchar(255),
+    city varchar(255),
+    college varchar(255),
+    current_year varchar(255),
+    degree varchar(255),
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relation varchar(255),
+    eventtypes varchar(255),
+    graduation_year varchar(255),
+    interests varchar(255),
+    languages varchar(255),
+    major varchar(255),
+    marks varchar(255),
+    phone varchar(255),
+    skills varchar(255),
+    state varchar(255),
+    university varchar(255),
+    volunteer_experience varchar(255),
+    zipcode varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table student_event_register (
+    event_id bigint not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    availability varchar(255),
+    dietary_restrictions varchar(255),
+    have_bike varchar(255),
+    notes varchar(255),
+    prev_exp varchar(255),
+    reasonforevent varchar(255),
+    skills varchar(255),
+    status varchar(255),
+    transport_medium varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table user (
+    id bigint not null auto_increment,
+    profile_completed varchar(100) not null,
+    name varchar(255),
+    password varchar(255),
+    provider_id varchar(255),
+    username varchar(255),
+    provider_type enum ('EMAIL','FACEBOOK','GITHUB','GOOGLE'),
+    usertype enum ('ADMIN','MANAGER','ORGANIZER','STUDENT'),
+    primary key (id)
+) engine=InnoDB;
+
+alter table manager add constraint UK4vbgsjl6mcxrqyvts0hlilhob unique (user_id);
+alter table organizer add constraint UKk4cbf5r4jiqstl5f238fope0x unique (user_id);
+alter table student add constraint UKbkix9btnoi1n917ll7bplkvg5 unique (user_id);
+alter table events add constraint FKokjd76bv06gkg2myweeruny9u foreign key (created_by_id) references user (id);
+alter table manager add constraint FKlx8n4x9vqj3lqv8cj9ienwrv6 foreign key (user_id) references user (id);
+alter table organizer add constraint FKcmhd19dvka4vlxgxx18xoh4sv foreign key (user_id) references user (id);
+alter table student add constraint FKk5m148xqefonqw7bgnpm0snwj foreign key (user_id) references user (id);
+alter table student_event_register add constraint FKfeyrn8iwenynm757kru6xfhlk foreign key (event_id) references events (id);
+alter table student_event_register add constraint FK8r3bgdwlimjlxrg7sdnym4nf1 foreign key (user_id) references user (id);
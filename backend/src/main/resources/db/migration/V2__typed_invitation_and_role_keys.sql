@@ -0,0 +1,73 @@
+-- Invitation and role references were VARCHAR columns holding numeric ids, so every join to
+-- events/user/manager_role compared text with BIGINT and could not use an index. They become
+-- BIGINT foreign keys, selected becomes a flag, and user.username gets the unique index that
+-- @JoinColumn(unique = true) never produced.
+
+-- Two accounts with one username would stop uk_user_username at the very end, after the column
+-- changes below were applied: MySQL cannot roll DDL back, and the migration would be left half
+-- done. The accounts are not merged here, since each can own registrations, profiles and
+-- invitations; the migration stops before it changes anything and names one of them.
+DROP PROCEDURE IF EXISTS v2_check_usernames;
+
+DELIMITER //
+CREATE PROCEDURE v2_check_usernames()
+BEGIN
+    DECLARE duplicate varchar(255);
+    DECLARE message varchar(512);
+    SET duplicate = (SELECT username FROM user WHERE username IS NOT NULL
+                     GROUP BY username HAVING COUNT(*) > 1 ORDER BY username LIMIT 1);
+    IF duplicate IS NOT NULL THEN
+        SET message = CONCAT('V2 adds uk_user_username: resolve the duplicate usernames first, e.g. ', duplicate);
+        SIGNAL SQLSTATE '45000' SET MESSAGE_TEXT = message;
+    END IF;
+END //
+DELIMITER ;
+
+CALL v2_check_usernames();
+DROP PROCEDURE v2_check_usernames;
+
+-- values that are not ids, or ids of rows that no longer exist, would stop the foreign keys
+UPDATE event_invitation SET eventid = NULL WHERE eventid NOT REGEXP '^[0-9]+$';
+UPDATE event_invitation SET roleid = NULL WHERE roleid NOT REGEXP '^[0-9]+$';
+UPDATE event_invitation SET userid = NULL WHERE userid NOT REGEXP '^[0-9]+$';
+UPDATE manager_role SET eventid = NULL WHERE eventid NOT REGEXP '^[0-9]+$';
+
+ALTER TABLE event_invitation
+    MODIFY eventid bigint,
+    MODIFY roleid bigint,
+    MODIFY userid bigint,
+    ADD COLUMN selected_flag bit NOT NULL DEFAULT 0;
+
+ALTER TABLE manager_role
+    MODIFY eventid bigint;
+
+UPDATE event_invitation ei SET ei.eventid = NULL
+WHERE ei.eventid IS NOT NULL AND NOT EXISTS (SELECT 1 FROM events e WHERE e.id = ei.eventid);
+UPDATE event_invitation ei SET ei.roleid = NULL
+WHERE ei.roleid IS NOT NULL AND NOT EXISTS (SELECT 1 FROM manager_role mr WHERE mr.id = ei.roleid);
+UPDATE event_invitation ei SET ei.userid = NULL
+WHERE ei.userid IS NOT NULL AND NOT EXISTS (SELECT 1 FROM user u WHERE u.id = ei.userid);
+UPDATE manager_role mr SET mr.eventid = NULL
+WHERE mr.eventid IS NOT NULL AND NOT EXISTS (SELECT 1 FROM events e WHERE e.id = mr.eventid);
+
+-- selected used to be '1' or NULL
+UPDATE event_invitation SET selected_flag = 1 WHERE selected = '1';
+ALTER TABLE event_invitation DROP COLUMN selected;
+ALTER TABLE event_invitation RENAME COLUMN selected_flag TO selected;
+
+-- indexes first, so the foreign keys below reuse them instead of adding their own
+CREATE INDEX idx_invitation_user_selected ON event_invitation (userid, selected);
+CREATE INDEX idx_invitation_event ON event_invitation (eventid);
+CREATE INDEX idx_invitation_role_user ON event_invitation (roleid, userid);
+CREATE INDEX idx_manager_role_event ON manager_role (eventid);
+
+ALTER TABLE event_invitation
+    ADD CONSTRAINT fk_invitation_event FOREIGN KEY (eventid) REFERENCES events (id),
+    ADD CONSTRAINT fk_invitation_role FOREIGN KEY (roleid) REFERENCES manager_role (id),
+    ADD CONSTRAINT fk_invitation_user FOREIGN KEY (userid) REFERENCES user (id);
+
+ALTER TABLE manager_role
+    ADD CONSTRAINT fk_manager_role_event FOREIGN KEY (eventid) REFERENCES events (id);
+
+ALTER TABLE user
+    ADD CONSTRAINT uk_user_username UNIQUE (username);
@@ -0,0 +1,31 @@
+-- Ids move from AUTO_INCREMENT to pooled sequences so Hibernate can batch inserts; IDENTITY
+-- needs the generated key of every row back and turns JDBC batching off. MySQL has no
+-- sequences, so each one is the single-row table Hibernate falls back to. With the pooled-lo
+-- optimizer the stored value is the next id to hand out, hence MAX(id) + 1.
+
+CREATE TABLE user_seq (next_val bigint) engine=InnoDB;
+INSERT INTO user_seq SELECT COALESCE(MAX(id), 0) + 1 FROM user;
+
+CREATE TABLE events_seq (next_val bigint) engine=InnoDB;
+INSERT INTO events_seq SELECT COALESCE(MAX(id), 0) + 1 FROM events;
+
+CREATE TABLE student_seq (next_val bigint) engine=InnoDB;
+INSERT INTO student_seq SELECT COALESCE(MAX(id), 0) + 1 FROM student;
+
+CREATE TABLE manager_seq (next_val bigint) engine=InnoDB;
+INSERT INTO manager_seq SELECT COALESCE(MAX(id), 0) + 1 FROM manager;
+
+CREATE TABLE organizer_seq (next_val bigint) engine=InnoDB;
+INSERT INTO organizer_seq SELECT COALESCE(MAX(id), 0) + 1 FROM organizer;
+
+CREATE TABLE student_event_register_seq (next_val bigint) engine=InnoDB;
+INSERT INTO student_event_register_seq SELECT COALESCE(MAX(id), 0) + 1 FROM student_event_register;
+
+CREATE TABLE event_invitation_seq (next_val bigint) engine=InnoDB;
+INSERT INTO event_invitation_seq SELECT COALESCE(MAX(id), 0) + 1 FROM event_invitation;
+
+CREATE TABLE manager_role_seq (next_val bigint) engine=InnoDB;
+INSERT INTO manager_role_seq SELECT COALESCE(MAX(id), 0) + 1 FROM manager_role;
+
+CREATE TABLE book_entity_seq (next_val bigint) engine=InnoDB;
+INSERT INTO book_entity_seq SELECT COALESCE(MAX(id), 0) + 1 FROM book_entity;
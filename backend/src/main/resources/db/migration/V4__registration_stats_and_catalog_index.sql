@@ -0,0 +1,30 @@
+-- Objects the application added after the baseline schema: the per-event registration counters
+-- EventRegistrationStatsService keeps, the (start_at, id) index the catalog's keyset pages seek
+-- on, and one registration per student and event. The counters start empty and are filled from
+-- student_event_register at startup (EventRegistrationStatsService.backfillMissing).
+
+CREATE TABLE event_registration_stats (
+    approved bigint NOT NULL,
+    event_id bigint NOT NULL,
+    pending bigint NOT NULL,
+    rejected bigint NOT NULL,
+    total bigint NOT NULL,
+    PRIMARY KEY (event_id)
+) engine=InnoDB;
+
+CREATE INDEX idx_events_start_at_id ON events (start_at, id);
+
+-- Double submits left some students registered twice for the same event, which the unique key
+-- below would refuse. Of each such group the row an organizer got furthest with stays, APPROVED
+-- before PENDING before anything else, and the oldest of those.
+DELETE dup FROM student_event_register dup
+JOIN student_event_register kept
+    ON kept.event_id = dup.event_id
+    AND kept.user_id = dup.user_id
+    AND kept.id <> dup.id
+WHERE (CASE UPPER(kept.status) WHEN 'APPROVED' THEN 0 WHEN 'PENDING' THEN 1 ELSE 2 END,
+        kept.id)
+    < (CASE UPPER(dup.status) WHEN 'APPROVED' THEN 0 WHEN 'PENDING' THEN 1 ELSE 2 END,
+        dup.id);
+
+ALTER TABLE student_event_register ADD CONSTRAINT uk_ser_event_user UNIQUE (event_id, user_id);
@@ -0,0 +1,7 @@
+-- The list cards showed SUBSTRING(description, 1, 160), which still reads the whole description
+-- of every listed event. The start of it is now stored next to the row (Event.summarize keeps it
+-- current on every save), and the lists select that instead.
+
+ALTER TABLE events ADD COLUMN summary varchar(160);
+
+UPDATE events SET summary = SUBSTRING(description, 1, 160) WHERE description IS NOT NULL;
@@ -0,0 +1,8 @@
+-- Every registration for an event used to update that event's one counter row, so a
+-- registration rush queued on its lock. The counters are now spread over up to 16 rows per
+-- event (EventRegistrationStats.SHARDS) and summed on read; the existing rows become shard 0.
+
+ALTER TABLE event_registration_stats
+    ADD COLUMN shard int NOT NULL DEFAULT 0,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (event_id, shard);
@@ -0,0 +1,152 @@
+package com.example.EventManagement.domain.Event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventCatalogTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 10, 9, 0);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventService(eventRepository, null, new EventSearchIndex(), new EventFacetIndex(),
+                List.of(), null, null);
+    }
+
+    private Event save(String title, LocalDateTime startAt, String category, String status, boolean managedbyManager) {
+        return eventRepository.save(Event.builder().title(title).startAt(startAt).category(category)
+                .status(status).managedbyManager(managedbyManager).build());
+    }
+
+    private Event save(String title, LocalDateTime startAt) {
+        return save(title, startAt, "Music", "Event Created", false);
+    }
+
+    private static EventCatalogQuery query(Integer size, String cursor) {
+        EventCatalogQuery query = new EventCatalogQuery();
+        query.setSize(size);
+        query.setCursor(cursor);
+        return query;
+    }
+
+    // every page, following the cursors
+    private List<String> walk(EventCatalogQuery query) {
+        List<String> titles = new ArrayList<>();
+        String cursor = null;
+        do {
+            query.setCursor(cursor);
+            EventCatalogPageDto page = eventService.catalog(query);
+            page.getItems().forEach(item -> titles.add(item.getTitle()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return titles;
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        EventCatalogCursor dated = EventCatalogCursor.decode(new EventCatalogCursor(START, 42L).encode());
+        assertEquals(START, dated.getStartAt());
+        assertEquals(42L, dated.getId());
+
+        EventCatalogCursor undated = EventCatalogCursor.decode(new EventCatalogCursor(null, 7L).encode());
+        assertNull(undated.getStartAt());
+        assertEquals(7L, undated.getId());
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> EventCatalogCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> EventCatalogCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+
+    @Test
+    void pagesEndExactlyAtTheLastRow() {
+        save("a", START);
+        save("b", START.plusDays(1));
+        save("c", START.plusDays(2));
+        save("d", START.plusDays(3));
+
+        EventCatalogPageDto first = eventService.catalog(query(2, null));
+        assertEquals(List.of("a", "b"), first.getItems().stream().map(EventCatalogItemDto::getTitle).toList());
+        assertNotNull(first.getNextCursor());
+
+        EventCatalogPageDto second = eventService.catalog(query(2, first.getNextCursor()));
+        assertEquals(List.of("c", "d"), second.getItems().stream().map(EventCatalogItemDto::getTitle).toList());
+        // the size + 1 probe found nothing after d
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void tiesOnStartAtAreBrokenById() {
+        List<String> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(save("same-" + i, START).getTitle());
+        }
+        save("later", START.plusHours(1));
+
+        List<String> walked = walk(query(2, null));
+
+        assertEquals(6, walked.size());
+        assertEquals(saved, walked.subList(0, 5));
+        assertEquals("later", walked.get(5));
+    }
+
+    @Test
+    void undatedEventsComeLast() {
+        save("undated-1", null);
+        save("dated", START);
+        save("undated-2", null);
+
+        assertEquals(List.of("dated", "undated-1", "undated-2"), walk(query(1, null)));
+        assertEquals(List.of("dated", "undated-1", "undated-2"), walk(query(2, null)));
+        assertEquals(List.of("dated", "undated-1", "undated-2"), walk(query(10, null)));
+    }
+
+    @Test
+    void eachFilterNarrowsTheCatalog() {
+        save("music", START, "Music", "Event Created", false);
+        save("sports", START.plusDays(1), "Sports", "Event Created", false);
+        save("updated", START.plusDays(2), "Music", "EVENT UPDATED", false);
+        save("managed", START.plusDays(3), "Music", "Event Created", true);
+        save("undated", null, "Music", "Event Created", false);
+
+        EventCatalogQuery category = query(10, null);
+        category.setCategory("Sports");
+        assertEquals(List.of("sports"), walk(category));
+
+        EventCatalogQuery status = query(10, null);
+        status.setStatus("EVENT UPDATED");
+        assertEquals(List.of("updated"), walk(status));
+
+        EventCatalogQuery managed = query(10, null);
+        managed.setManagedbyManager(true);
+        assertEquals(List.of("managed"), walk(managed));
+
+        // a date range is on startAt, so undated events are outside any range
+        EventCatalogQuery from = query(10, null);
+        from.setFrom(START.plusDays(1));
+        assertEquals(List.of("sports", "updated", "managed"), walk(from));
+
+        EventCatalogQuery to = query(10, null);
+        to.setTo(START.plusDays(1));
+        assertEquals(List.of("music"), walk(to));
+    }
+}
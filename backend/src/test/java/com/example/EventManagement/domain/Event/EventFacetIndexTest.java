@@ -0,0 +1,83 @@
+package com.example.EventManagement.domain.Event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFacetIndexTest {
+
+    private final EventFacetIndex index = new EventFacetIndex();
+
+    private static Event event(long id, String category, String tags, LocalDateTime startAt) {
+        return Event.builder().id(id).title("Event " + id).category(category).tags(tags)
+                .status("Event Created").location("Hall").startAt(startAt).build();
+    }
+
+    @Test
+    void updateMovesCountsBetweenCategoriesAndTags() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 9, 0);
+        index.index(event(1, "Music", "outdoor,live", start));
+        index.index(event(2, "Music", "live", start.plusMonths(1)));
+
+        index.index(event(1, "Sports", "outdoor", start));
+
+        Map<String, Map<String, Integer>> counts = index.counts();
+        assertEquals(Map.of("Music", 1, "Sports", 1), counts.get(EventFacetIndex.CATEGORY));
+        assertEquals(Map.of("outdoor", 1, "live", 1), counts.get(EventFacetIndex.TAGS));
+        assertEquals(Map.of("2026-03", 1, "2026-04", 1), counts.get(EventFacetIndex.MONTH));
+    }
+
+    @Test
+    void browseFiltersAndCountsTheMatchingSet() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 9, 0);
+        index.index(event(1, "Music", "live", start));
+        index.index(event(2, "Music", "live,outdoor", start.plusDays(1)));
+        index.index(event(3, "Sports", "outdoor", start.plusDays(2)));
+
+        EventBrowseResultDto result = index.browse(Map.of(EventFacetIndex.TAGS, Set.of("outdoor")), null, 10);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(2L, result.getItems().get(0).getId());
+        assertEquals(Map.of("Music", 1, "Sports", 1), result.getFacets().get(EventFacetIndex.CATEGORY));
+    }
+
+    @Test
+    void browsePagesInStartOrder() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 9, 0);
+        for (long id = 1; id <= 5; id++) {
+            index.index(event(id, "Music", null, start.minusDays(id)));
+        }
+
+        EventBrowseResultDto first = index.browse(Map.of(), null, 3);
+        EventBrowseResultDto second = index.browse(Map.of(), EventCatalogCursor.decode(first.getNextCursor()), 3);
+
+        assertEquals(5L, first.getItems().get(0).getId());
+        assertEquals(2, second.getItems().size());
+        assertEquals(1L, second.getItems().get(1).getId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void undatedEventsComeLastAcrossPages() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 10, 9, 0);
+        index.index(event(1, "Music", null, null));
+        index.index(event(2, "Music", null, start));
+        index.index(event(3, "Music", null, null));
+        index.index(event(4, "Music", null, start.plusDays(1)));
+
+        EventBrowseResultDto first = index.browse(Map.of(), null, 3);
+        EventCatalogCursor tail = EventCatalogCursor.decode(first.getNextCursor());
+        EventBrowseResultDto second = index.browse(Map.of(), tail, 3);
+
+        assertEquals(List.of(2L, 4L, 1L), first.getItems().stream().map(EventCatalogItemDto::getId).toList());
+        // the page ended in the undated tail, encoded as the catalog encodes it
+        assertNull(tail.getStartAt());
+        assertEquals(List.of(3L), second.getItems().stream().map(EventCatalogItemDto::getId).toList());
+        assertNull(second.getNextCursor());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.EventManagement.domain.Event;
+
+import com.example.EventManagement.domain.web.ResourceVersions;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class EventIndexRebuildTest {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final EventSearchIndex searchIndex = new EventSearchIndex();
+    private final EventFacetIndex facetIndex = new EventFacetIndex();
+    private final EventService eventService = new EventService(eventRepository, null, searchIndex, facetIndex,
+            List.of(searchIndex, facetIndex), Mappers.getMapper(EventMapper.class), null);
+
+    private static Event event(long id, String title) {
+        return Event.builder().id(id).title(title).category("Music").status("Event Created").build();
+    }
+
+    @Test
+    void indexesKeepServingWhileTheRebuildRuns() {
+        searchIndex.index(event(1, "Jazz night"));
+        facetIndex.index(event(1, "Jazz night"));
+
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // mid-rebuild: search and browse still answer from the old contents
+            assertEquals(1, searchIndex.search("jazz", 10).size());
+            assertEquals(1, facetIndex.counts().get(EventFacetIndex.CATEGORY).get("Music"));
+            return List.of(event(1, "Jazz night"), event(2, "Rock night"));
+        });
+
+        assertEquals(2, eventService.rebuildIndexes());
+        assertEquals(1, searchIndex.search("rock", 10).size());
+        assertEquals(2, facetIndex.counts().get(EventFacetIndex.CATEGORY).get("Music"));
+    }
+
+    @Test
+    void writesDuringTheRebuildWinOverOlderBatchRows() {
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class))).thenAnswer(invocation -> {
+            // the batch was read before this update committed
+            eventService.Update(event(1, "Renamed concert"));
+            return List.of(event(1, "Original concert"));
+        });
+
+        eventService.rebuildIndexes();
+
+        assertTrue(searchIndex.search("original", 10).isEmpty());
+        assertEquals(1, searchIndex.search("renamed", 10).size());
+    }
+
+    @Test
+    void aRebuildMovesTheEventsTag() {
+        ResourceVersions versions = new ResourceVersions();
+        EventController controller = new EventController(eventService, versions);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(event(1, "Jazz night")));
+        String before = versions.etag(ResourceVersions.EVENTS);
+
+        controller.RebuildSearchIndex();
+
+        assertNotEquals(before, versions.etag(ResourceVersions.EVENTS));
+    }
+}
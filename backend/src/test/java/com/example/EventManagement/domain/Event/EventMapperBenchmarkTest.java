@@ -0,0 +1,72 @@
+package com.example.EventManagement.domain.Event;
+
+import com.example.EventManagement.domain.entity.User;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// JMH comparison of the generated EventMapper against the ModelMapper bean it replaced,
+// mapping a 100-event list the way EventService.listAll does.
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventMapperBenchmarkTest {
+
+    private ModelMapper modelMapper;
+    private EventMapper eventMapper;
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        eventMapper = Mappers.getMapper(EventMapper.class);
+        User organizer = User.builder().id(1L).username("o@gmail.com").name("Organizer").build();
+        events = IntStream.range(0, 100)
+                .mapToObj(i -> Event.builder()
+                        .id((long) i).title("Event " + i).description("Description ".repeat(100))
+                        .startAt(LocalDateTime.now().plusDays(i)).endAt(LocalDateTime.now().plusDays(i).plusHours(2))
+                        .location("Location " + i).requiredVolunteer(10).status("Event Created")
+                        .category("Category " + i % 5).tags("tag" + i).cost("0").createdBy(organizer)
+                        .build())
+                .toList();
+    }
+
+    @Benchmark
+    public List<EventOutDto> modelMapper() {
+        return events.stream().map(event -> modelMapper.map(event, EventOutDto.class)).toList();
+    }
+
+    @Benchmark
+    public List<EventOutDto> mapStruct() {
+        return events.stream().map(eventMapper::toOutDto).toList();
+    }
+
+    @Test
+    void run() throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EventMapperBenchmarkTest.class.getName() + "\\.")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.EventManagement.domain.Event;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+@Tag("benchmark")
+class EventSearchIndexBenchmarkTest {
+
+    private static final int EVENTS = 100_000;
+    private static final int QUERIES = 1_000;
+
+    private static final String[] WORDS = {
+            "music", "festival", "tech", "conference", "charity", "run", "beach", "cleanup", "career", "fair",
+            "art", "workshop", "coding", "marathon", "food", "drive", "blood", "donation", "science", "expo",
+            "robotics", "league", "startup", "pitch", "yoga", "retreat", "book", "club", "film", "night"};
+
+    @Test
+    void queryLatencyAt100kEvents() {
+        Random random = new Random(42);
+        EventSearchIndex index = new EventSearchIndex();
+
+        long indexStart = System.nanoTime();
+        for (long id = 1; id <= EVENTS; id++) {
+            index.index(Event.builder()
+                    .id(id)
+                    .title(words(random, 3))
+                    .description(words(random, 40))
+                    .category(WORDS[random.nextInt(WORDS.length)])
+                    .tags(words(random, 2).replace(' ', ','))
+                    .build());
+        }
+        long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+        long[] latencies = new long[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String query = words(random, 1 + random.nextInt(3));
+            long start = System.nanoTime();
+            index.search(query, 20);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("indexed %d events in %d ms; query p50=%.2f ms p99=%.2f ms%n",
+                EVENTS, indexMillis,
+                latencies[QUERIES / 2] / 1e6, latencies[QUERIES * 99 / 100] / 1e6);
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
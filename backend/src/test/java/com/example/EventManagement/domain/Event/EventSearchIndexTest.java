@@ -0,0 +1,63 @@
+package com.example.EventManagement.domain.Event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSearchIndexTest {
+
+    private final EventSearchIndex index = new EventSearchIndex();
+
+    private static Event event(long id, String title, String description, String category, String tags) {
+        return Event.builder().id(id).title(title).description(description).category(category).tags(tags).build();
+    }
+
+    @Test
+    void ranksTitleMatchesAboveDescriptionMatches() {
+        index.index(event(1, "Beach cleanup", "Collect plastic along the river", "Environment", "outdoor"));
+        index.index(event(2, "River walk", "A quiet beach afterwards", "Leisure", "walk"));
+
+        List<EventSearchHit> hits = index.search("beach", 10);
+
+        assertEquals(List.of(1L, 2L), hits.stream().map(EventSearchHit::getId).toList());
+    }
+
+    @Test
+    void updateReplacesPreviousTerms() {
+        index.index(event(1, "Coding marathon", null, "Technology", "hackathon"));
+        index.index(event(1, "Charity run", null, "Sports", "marathon,charity"));
+
+        assertTrue(index.search("hackathon", 10).isEmpty());
+        assertTrue(index.search("technology", 10).isEmpty());
+        assertEquals(1L, index.search("charity", 10).get(0).getId());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void limitsAndClears() {
+        for (long id = 1; id <= 30; id++) {
+            index.index(event(id, "Workshop " + id, "Hands-on workshop", "Education", "workshop"));
+        }
+
+        assertEquals(5, index.search("workshop", 5).size());
+
+        index.clear();
+        assertTrue(index.search("workshop", 5).isEmpty());
+    }
+
+    @Test
+    void replaceWithSwapsInTheRebuiltContents() {
+        index.index(event(1, "Old title", null, "Education", null));
+        EventSearchIndex rebuilt = index.newInstance();
+        rebuilt.index(event(2, "New title", null, "Education", null));
+
+        // the live index is untouched until the swap
+        assertEquals(1, index.search("old", 10).size());
+
+        index.replaceWith(rebuilt);
+        assertTrue(index.search("old", 10).isEmpty());
+        assertEquals(2L, index.search("new", 10).get(0).getId());
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.EventManagement.domain.Event;
+
+import com.example.EventManagement.domain.config.CacheConfig;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SingleFlightProperties;
+import com.example.EventManagement.domain.config.SparseFieldQuery;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class EventServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        EventRepository eventRepository() {
+            return Mockito.mock(EventRepository.class);
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return Mockito.mock(UserRepository.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.EVENTS, CacheConfig.EVENT_DETAILS, CacheConfig.EVENT_LIST);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        SingleFlightProperties singleFlightProperties() {
+            return new SingleFlightProperties();
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        SingleFlight singleFlight(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+            return new SingleFlight(properties, meterRegistry);
+        }
+
+        @Bean
+        EventService eventService(EventRepository eventRepository, UserRepository userRepository, SingleFlight singleFlight) {
+            return new EventService(eventRepository, userRepository, new EventSearchIndex(), new EventFacetIndex(),
+                    List.of(), Mappers.getMapper(EventMapper.class), Mockito.mock(SparseFieldQuery.class), singleFlight);
+        }
+    }
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SingleFlightProperties singleFlightProperties;
+
+    private final User creator = User.builder().id(7L).name("Organizer").build();
+
+    @BeforeEach
+    void setUp() {
+        reset(eventRepository, userRepository);
+        singleFlightProperties.setTimeouts(Map.of());
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        // new events get an id, as from the sequence
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+            Event saved = invocation.getArgument(0);
+            if (saved.getId() == null) {
+                saved.setId(100L);
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    void eventReadIsCachedUntilItIsUpdated() {
+        Event event = Event.builder().id(1L).title("Expo").createdBy(creator).build();
+        when(eventRepository.findWithDescriptionById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findByIdAndCreatedById(1L, 7L)).thenReturn(Optional.of(event));
+
+        assertEquals("Expo", eventService.getEvent(1L).getTitle());
+        assertEquals("Expo", eventService.getEvent(1L).getTitle());
+        verify(eventRepository, times(1)).findWithDescriptionById(1L);
+
+        EventInDto update = new EventInDto();
+        update.setTitle("Expo 2026");
+        eventService.SaveUpdatedEventData(1L, "7", update);
+
+        assertEquals("Expo 2026", eventService.getEvent(1L).getTitle());
+        verify(eventRepository, times(2)).findWithDescriptionById(1L);
+    }
+
+    @Test
+    void eventListIsDroppedWhenAnEventIsCreated() {
+        when(eventRepository.findListItems()).thenReturn(List.of());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(creator));
+
+        assertTrue(eventService.listAll().isEmpty());
+        assertTrue(eventService.listAll().isEmpty());
+        verify(eventRepository, times(1)).findListItems();
+
+        EventInDto created = new EventInDto();
+        created.setTitle("New");
+        created.setCreatedid(7L);
+        eventService.CreatEvent(created);
+        when(eventRepository.findListItems()).thenReturn(List.of(mock(EventListProjection.class)));
+
+        assertEquals(1, eventService.listAll().size());
+        verify(eventRepository, times(2)).findListItems();
+    }
+
+    @Test
+    void unknownEventDetailsAreCachedUntilTheIdIsCreated() {
+        when(eventRepository.findEventDetailsNative(3L)).thenReturn(List.of());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(creator));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+            Event saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+
+        assertTrue(eventService.find(3L).isEmpty());
+        assertTrue(eventService.find(3L).isEmpty());
+        verify(eventRepository, times(1)).findEventDetailsNative(3L);
+
+        EventInDto created = new EventInDto();
+        created.setTitle("New");
+        created.setCreatedid(7L);
+        eventService.CreatEvent(created);
+        when(eventRepository.findEventDetailsNative(3L)).thenReturn(List.<Object[]>of(new Object[]{3L, "New"}));
+
+        assertEquals(1, eventService.find(3L).size());
+        verify(eventRepository, times(2)).findEventDetailsNative(3L);
+    }
+
+    @Test
+    void cacheMissesAreLoadedAsFlights() {
+        Event event = Event.builder().id(1L).title("Expo").createdBy(creator).build();
+        when(eventRepository.findWithDescriptionById(1L)).thenReturn(Optional.of(event));
+        when(eventRepository.findListItems()).thenReturn(List.of());
+        double events = calls(SingleFlight.EVENT, "leader");
+        double lists = calls(SingleFlight.EVENT_LIST, "leader");
+
+        eventService.getEvent(1L);
+        eventService.getEvent(1L);
+        eventService.listAll();
+
+        assertEquals(events + 1, calls(SingleFlight.EVENT, "leader"));
+        assertEquals(lists + 1, calls(SingleFlight.EVENT_LIST, "leader"));
+    }
+
+    @Test
+    void slowDetailsLoadIsAbandonedAfterItsTimeout() throws Exception {
+        singleFlightProperties.setTimeouts(Map.of(SingleFlight.EVENT_DETAILS, 200L));
+        double timeouts = counter("singleflight.timeouts");
+        double cancelled = counter("singleflight.cancelled");
+        CountDownLatch stuck = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(eventRepository.findEventDetailsNative(5L)).thenAnswer(invocation -> {
+            try {
+                stuck.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of();
+        }).thenReturn(List.<Object[]>of(new Object[]{5L, "Fair"}));
+
+        // the caller stops waiting, reads on its own, and the load nobody waits for is stopped
+        assertEquals(1, eventService.find(5L).size());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(timeouts + 1, counter("singleflight.timeouts"));
+        assertEquals(cancelled + 1, counter("singleflight.cancelled"));
+    }
+
+    @Test
+    void loadInFlightDuringAnUpdateIsNotCached() throws Exception {
+        Event event = Event.builder().id(1L).title("Expo").createdBy(creator).build();
+        when(eventRepository.findByIdAndCreatedById(1L, 7L)).thenReturn(Optional.of(event));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.findEventDetailsNative(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{1L, "Expo"});
+        });
+
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            // the read started before the update committed, so it returns the old row
+            Future<List<Object[]>> read = threads.submit(() -> eventService.find(1L));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<EventOutDto> update = threads.submit(() -> eventService.SaveUpdatedEventData(1L, "7", new EventInDto()));
+            Thread.sleep(200);
+            release.countDown();
+            read.get(5, TimeUnit.SECONDS);
+            update.get(5, TimeUnit.SECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+
+        // the eviction waited for the read, so the old row is not served from the cache
+        eventService.find(1L);
+        verify(eventRepository, times(2)).findEventDetailsNative(1L);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.find(name).tag("flight", SingleFlight.EVENT_DETAILS).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private double calls(String flight, String role) {
+        return meterRegistry.find("singleflight.calls").tag("flight", flight).tag("role", role).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
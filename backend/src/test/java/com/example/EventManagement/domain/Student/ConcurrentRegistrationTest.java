@@ -0,0 +1,95 @@
+package com.example.EventManagement.domain.Student;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+// InnoDB locking on a real MySQL: two students registering for the same event at once, both
+// past the check for an existing registration before either inserts. Skipped without Docker.
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class ConcurrentRegistrationTest {
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private StudentService studentService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StudentEventRegisterRepository registerRepository;
+    @MockitoSpyBean
+    private EventCapacityGate eventCapacityGate;
+
+    @Test
+    void firstRegistrationsForOneEventDoNotDeadlock() throws Exception {
+        Event event = eventRepository.save(Event.builder().title("Rush").requiredVolunteer(10).build());
+        List<User> students = List.of(student("rush1@gmail.com"), student("rush2@gmail.com"));
+
+        // both requests take their seat only once each has looked for an existing registration
+        CyclicBarrier bothLooked = new CyclicBarrier(students.size());
+        doAnswer(invocation -> {
+            bothLooked.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(eventCapacityGate).tryAcquire(any(), any());
+
+        ExecutorService requests = Executors.newFixedThreadPool(students.size());
+        try {
+            List<Future<StudentEventRegisterOutDto>> results = new ArrayList<>();
+            for (User student : students) {
+                results.add(requests.submit(() -> studentService.registerForEvent(registration(student, event))));
+            }
+            for (Future<StudentEventRegisterOutDto> result : results) {
+                assertNotNull(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+
+        assertEquals(2, registerRepository.countSeatsTaken(event.getId()));
+    }
+
+    private User student(String username) {
+        return userRepository.save(User.builder().username(username).name(username).profileCompleted("13").build());
+    }
+
+    private static StudentEventRegisterInDto registration(User student, Event event) {
+        StudentEventRegisterInDto in = new StudentEventRegisterInDto();
+        in.setUserid(String.valueOf(student.getId()));
+        in.setEventid(String.valueOf(event.getId()));
+        in.setStatus("PENDING");
+        return in;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.EventManagement.domain.Student;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SingleFlightProperties;
+import com.example.EventManagement.domain.config.SparseFieldQuery;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.studentEventRegister.EventRegistrationStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EventCapacityGateTest {
+
+    private static final int THREADS = 64;
+
+    private final StudentEventRegisterRepository registerRepository = mock(StudentEventRegisterRepository.class);
+
+    @Test
+    void concurrentAcquiresNeverExceedCapacity() throws Exception {
+        when(registerRepository.countSeatsTaken(1L)).thenReturn(10L);
+        EventCapacityGate gate = new EventCapacityGate(registerRepository);
+
+        List<Boolean> results = hammer(500, i -> gate.tryAcquire(1L, 50));
+
+        assertEquals(40, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(50, gate.taken(1L));
+        verify(registerRepository, times(1)).countSeatsTaken(1L);
+    }
+
+    @Test
+    void rolledBackRegistrationGivesItsSeatBack() {
+        when(registerRepository.countSeatsTaken(1L)).thenReturn(0L);
+        EventCapacityGate gate = new EventCapacityGate(registerRepository);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(gate.tryAcquire(1L, 1));
+            assertFalse(gate.tryAcquire(1L, 1));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, gate.taken(1L));
+        assertTrue(gate.tryAcquire(1L, 1));
+    }
+
+    @Test
+    void rejectionGivesTheSeatBackOnceCommitted() {
+        when(registerRepository.countSeatsTaken(1L)).thenReturn(1L);
+        EventCapacityGate gate = new EventCapacityGate(registerRepository);
+        assertFalse(gate.tryAcquire(1L, 1));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(gate.statusChanged(1L, 1, "APPROVED", "REJECTED"));
+            // still held while the rejection could roll back
+            assertEquals(1, gate.taken(1L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, gate.taken(1L));
+        assertTrue(gate.tryAcquire(1L, 1));
+    }
+
+    @Test
+    void leavingRejectedNeedsAFreeSeat() {
+        when(registerRepository.countSeatsTaken(1L)).thenReturn(1L);
+        EventCapacityGate gate = new EventCapacityGate(registerRepository);
+
+        assertFalse(gate.statusChanged(1L, 1, "REJECTED", "PENDING"));
+        assertTrue(gate.statusChanged(1L, 2, "REJECTED", "PENDING"));
+        assertEquals(2, gate.taken(1L));
+        // moves between seat-holding statuses leave the count alone
+        assertTrue(gate.statusChanged(1L, 2, "PENDING", "APPROVED"));
+        assertEquals(2, gate.taken(1L));
+    }
+
+    @Test
+    void registrationRushOnOneEventStopsAtRequiredVolunteer() throws Exception {
+        UserRepository userRepository = mock(UserRepository.class);
+        EventRepository eventRepository = mock(EventRepository.class);
+        Event event = Event.builder().id(1L).title("Popular").requiredVolunteer(30).build();
+        AtomicInteger rows = new AtomicInteger();
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(userRepository.findById(any())).thenAnswer(invocation ->
+                Optional.of(User.builder().id(invocation.getArgument(0)).build()));
+        when(registerRepository.findIdByUserIdAndEventId(any(), any())).thenReturn(Optional.empty());
+        when(registerRepository.countSeatsTaken(1L)).thenReturn(0L);
+        when(registerRepository.saveAndFlush(any(StudentEventRegister.class))).thenAnswer(invocation -> {
+            rows.incrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        StudentService studentService = new StudentService(userRepository, mock(StudentRepository.class),
+                registerRepository, eventRepository, Mappers.getMapper(StudentMapper.class),
+                new EventCapacityGate(registerRepository),
+                mock(EventRegistrationStatsService.class), mock(SparseFieldQuery.class),
+                new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry()));
+
+        List<Boolean> results = hammer(300, i -> {
+            StudentEventRegisterInDto in = new StudentEventRegisterInDto();
+            in.setUserid(String.valueOf(i + 100));
+            in.setEventid("1");
+            in.setStatus("PENDING");
+            try {
+                studentService.registerForEvent(in);
+                return true;
+            } catch (EventFullException e) {
+                return false;
+            }
+        });
+
+        assertEquals(30, results.stream().filter(Boolean::booleanValue).count());
+        assertEquals(30, rows.get());
+    }
+
+    private interface Attempt {
+        boolean run(int i) throws Exception;
+    }
+
+    private static List<Boolean> hammer(int attempts, Attempt attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                int n = i;
+                Callable<Boolean> task = () -> {
+                    start.await();
+                    return attempt.run(n);
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.EventManagement.domain.Student;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.entity.User;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 100k registrations persisted through Hibernate, once with the old IDENTITY ids (one INSERT and
+// generated-key read per row, batching off) and once with the pooled sequence and batch_size 50.
+// Same entities, same settings, only the id generation differs. H2 is in-process, so against
+// MySQL over a network, with rewriteBatchedStatements, the gap is wider.
+// mvn test -Pbenchmark -Dtest=RegistrationInsertBenchmarkTest
+@Tag("benchmark")
+class RegistrationInsertBenchmarkTest {
+
+    private static final int EVENTS = 100;
+    private static final int STUDENTS = 1_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Test
+    void identityVersusPooledSequence() {
+        double identity = insertRegistrations(true);
+        double sequence = insertRegistrations(false);
+
+        System.out.printf("%d registrations: IDENTITY %.0f rows/s, pooled sequence + batching %.0f rows/s%n",
+                EVENTS * STUDENTS, identity, sequence);
+    }
+
+    private static double insertRegistrations(boolean identityIds) {
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(identityIds);
+        EntityManagerFactory factory = factoryBean.getObject();
+        try {
+            EntityManager entityManager = factory.createEntityManager();
+            entityManager.getTransaction().begin();
+            List<Long> eventIds = new ArrayList<>();
+            List<Long> userIds = new ArrayList<>();
+            for (int i = 0; i < EVENTS; i++) {
+                Event event = Event.builder().title("Event " + i).managedbyManager(false).build();
+                entityManager.persist(event);
+                eventIds.add(event.getId());
+            }
+            for (int i = 0; i < STUDENTS; i++) {
+                User user = User.builder().username("s" + i + "@gmail.com").profileCompleted("13").build();
+                entityManager.persist(user);
+                userIds.add(user.getId());
+            }
+            entityManager.getTransaction().commit();
+            entityManager.clear();
+
+            long started = System.nanoTime();
+            entityManager.getTransaction().begin();
+            int rows = 0;
+            for (Long eventId : eventIds) {
+                for (Long userId : userIds) {
+                    entityManager.persist(StudentEventRegister.builder()
+                            .event(entityManager.getReference(Event.class, eventId))
+                            .user(entityManager.getReference(User.class, userId))
+                            .status("PENDING")
+                            .build());
+                    if (++rows % FLUSH_EVERY == 0) {
+                        entityManager.flush();
+                        entityManager.clear();
+                    }
+                }
+            }
+            entityManager.getTransaction().commit();
+            double rowsPerSecond = rows / ((System.nanoTime() - started) / 1e9);
+
+            assertEquals((long) EVENTS * STUDENTS, entityManager
+                    .createQuery("SELECT COUNT(r) FROM StudentEventRegister r", Long.class).getSingleResult());
+            entityManager.close();
+            return rowsPerSecond;
+        } finally {
+            factoryBean.destroy();
+            ((HikariDataSource) factoryBean.getDataSource()).close();
+        }
+    }
+
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory(boolean identityIds) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        // pooled like the application, since the sequence is read on a connection of its own
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:insert_" + (identityIds ? "identity" : "sequence") + ";DB_CLOSE_DELAY=-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE");
+        dataSource.setUsername("sa");
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.example.EventManagement.domain");
+        if (identityIds) {
+            factoryBean.setMappingResources("benchmark/identity-ids-orm.xml");
+        }
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName(),
+                "hibernate.implicit_naming_strategy", SpringImplicitNamingStrategy.class.getName(),
+                "hibernate.id.optimizer.pooled.preferred", "pooled-lo",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true"));
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+}
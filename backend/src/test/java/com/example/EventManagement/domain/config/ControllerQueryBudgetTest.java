@@ -0,0 +1,310 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.Manager.Manager;
+import com.example.EventManagement.domain.Manager.ManagerRepository;
+import com.example.EventManagement.domain.Organizer.Organizer;
+import com.example.EventManagement.domain.Organizer.OrganizerRepository;
+import com.example.EventManagement.domain.Student.Student;
+import com.example.EventManagement.domain.Student.StudentRepository;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitation;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitationRepository;
+import com.example.EventManagement.domain.organizeManageEvents.EventRole;
+import com.example.EventManagement.domain.organizeManageEvents.EventRoleRepository;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static com.example.EventManagement.domain.config.QueryBudget.atMost;
+import static com.example.EventManagement.domain.config.QueryBudget.rowsAtMost;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// SQL budgets for the endpoints, over the DataInitializer data (5 events with 10
+// registrations each) plus one profile per user type. The second-level and application caches
+// start cold for every test, so the budgets hold for a first request; raise one only with a reason.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "app.query-count.capture-statements=true",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class ControllerQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentRepository studentRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private OrganizerRepository organizerRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRoleRepository eventRoleRepository;
+    @Autowired
+    private EventInvitationRepository invitationRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EventService eventService;
+
+    private User student;
+    private User manager;
+    private User organizer;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        student = userRepository.findByUsername("student1@gmail.com").orElseThrow();
+        manager = userRepository.findByUsername("m@gmail.com").orElseThrow();
+        organizer = userRepository.findByUsername("o@gmail.com").orElseThrow();
+        event = eventRepository.findAll().get(0);
+
+        if (studentRepository.count() == 0) {
+            studentRepository.save(Student.builder().user(student).university("State").build());
+            managerRepository.save(Manager.builder().user(manager).jobTitle("Lead").build());
+            organizerRepository.save(Organizer.builder().user(organizer).organizationName("Green Org").build());
+            EventRole role = eventRoleRepository.save(EventRole.builder().eventid(event.getId()).title("Lead").build());
+            invitationRepository.save(EventInvitation.builder().eventid(event.getId()).roleid(role.getId())
+                    .userid(manager.getId()).status("ACCEPTED").selected(true).build());
+        }
+        entityManagerFactory.getCache().evictAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void studentProfile() throws Exception {
+        // profile and user in one select
+        mvc.perform(get("/Student/{userid}", student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("student1@gmail.com"))
+                .andExpect(jsonPath("$.university").value("State"))
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void studentProfileFields() throws Exception {
+        // only the asked-for columns are selected and written
+        mvc.perform(get("/Student/{userid}", student.getId()).param("fields", "name,university"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").exists())
+                .andExpect(jsonPath("$.university").value("State"))
+                .andExpect(jsonPath("$.email").doesNotExist())
+                .andExpect(jsonPath("$.bio").doesNotExist())
+                .andExpect(atMost(1))
+                .andExpect(result -> assertFalse(capturedSql(result).contains("bio"), capturedSql(result)));
+    }
+
+    @Test
+    void studentProfileSave() throws Exception {
+        mvc.perform(post("/Student/save").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"userid": "%d", "profileCompleted": "100", "university": "State"}
+                        """.formatted(student.getId())))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void studentProfileCompleted() throws Exception {
+        // existence checks only: neither the event nor the registration is loaded
+        mvc.perform(get("/Student/GetprofileCompleted/{userid}/{eventid}", student.getId(), event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.alreadyApplied").value(true))
+                .andExpect(atMost(3))
+                .andExpect(rowsAtMost(3));
+    }
+
+    @Test
+    void studentRegistrationUpdate() throws Exception {
+        // student1 is one of the ten DataInitializer registered for the first event; updating that
+        // registration reads only its own row: its id unlocked, then the row locked by primary key
+        mvc.perform(post("/Student/RegisterEvent").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"userid": "%d", "eventid": "%d", "notes": "Still keen", "status": "PENDING"}
+                        """.formatted(student.getId(), event.getId())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.notes").value("Still keen"))
+                .andExpect(atMost(3))
+                .andExpect(rowsAtMost(2));
+    }
+
+    @Test
+    void managerProfile() throws Exception {
+        mvc.perform(get("/Manager/{userid}", manager.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void organizerProfile() throws Exception {
+        mvc.perform(get("/Organizer/{userid}", organizer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void studentRegisteredEvents() throws Exception {
+        mvc.perform(get("/Student/Assigneventlist/{userid}", student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].startAt").exists())
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void managerAssignedEvents() throws Exception {
+        mvc.perform(get("/Manager/Assigneventlist/{userid}", manager.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].requiredVolunteer").exists())
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void eventList() throws Exception {
+        // list cards: a summary instead of the description
+        mvc.perform(get("/Event/eventlist"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").exists())
+                .andExpect(jsonPath("$[0].summary").exists())
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(atMost(1))
+                .andExpect(result -> assertFalse(capturedSql(result).contains("description"), capturedSql(result)));
+    }
+
+    @Test
+    void eventListSummaryFollowsTheDescription() throws Exception {
+        Event edited = eventRepository.findWithDescriptionById(event.getId()).orElseThrow();
+        String description = edited.getDescription();
+        edited.setDescription("x".repeat(300));
+        eventRepository.save(edited);
+        try {
+            mvc.perform(get("/Event/eventlist"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.id == %d)].summary".formatted(event.getId())).value("x".repeat(160)));
+        } finally {
+            edited.setDescription(description);
+            eventRepository.save(edited);
+        }
+    }
+
+    @Test
+    void eventDetailCarriesTheDescription() throws Exception {
+        mvc.perform(get("/Event/{id}/detail", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").exists())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void eventDetailFieldsLeaveTheDescriptionUnread() throws Exception {
+        mvc.perform(get("/Event/{id}/detail", event.getId()).param("fields", "title,startAt"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").exists())
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.location").doesNotExist())
+                .andExpect(atMost(1))
+                .andExpect(result -> assertFalse(capturedSql(result).contains("description"), capturedSql(result)));
+    }
+
+    @Test
+    void eventListFields() throws Exception {
+        mvc.perform(get("/Event/eventlist").param("fields", "id,title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").exists())
+                .andExpect(jsonPath("$[0].summary").doesNotExist());
+    }
+
+    @Test
+    void indexRebuildLoadsDescriptionsWithTheEvents() {
+        // description is a lazy column; the rebuild must not fetch it one event at a time
+        RequestQueryStats stats = RequestQueryStats.begin(false);
+        try {
+            eventService.rebuildIndexes();
+        } finally {
+            RequestQueryStats.end();
+        }
+        assertTrue(stats.getQueries() <= 1, "ran " + stats.getQueries() + " queries");
+    }
+
+    @Test
+    void eventDetail() throws Exception {
+        mvc.perform(get("/Event/{id}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void organizerEvents() throws Exception {
+        mvc.perform(get("/OME/createdBy/{userId}", organizer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void eventHomeDataCountsTheFannedOutQueries() throws Exception {
+        // three of these run on QueryFanOut workers
+        mvc.perform(get("/OME/GetData/{eventid}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(4));
+    }
+
+    @Test
+    void organizerRegistrationStats() throws Exception {
+        mvc.perform(get("/SER/getstats/{userid}", organizer.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void eventRegistrations() throws Exception {
+        mvc.perform(get("/SER/getEventstats/{eventid}", event.getId()))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void countsArePublishedPerRoute() throws Exception {
+        mvc.perform(get("/Event/{id}", event.getId())).andExpect(status().isOk());
+
+        DistributionSummary queries = meterRegistry.get("http.server.requests.queries")
+                .tags("method", "GET", "uri", "/Event/{id}")
+                .summary();
+        assertTrue(queries.count() >= 1);
+        assertTrue(queries.max() >= 1);
+        assertNotNull(meterRegistry.get("http.server.requests.rows").tags("uri", "/Event/{id}").summary());
+        assertTrue(meterRegistry.get("http.server.requests.jdbc").tags("uri", "/Event/{id}").timer().count() >= 1);
+    }
+
+    private static String capturedSql(MvcResult result) {
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+        return String.join("\n", stats.getStatements()).toLowerCase();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventInDto;
+import com.example.EventManagement.domain.Event.EventMapper;
+import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Manager.Manager;
+import com.example.EventManagement.domain.Manager.ManagerInDto;
+import com.example.EventManagement.domain.Manager.ManagerMapper;
+import com.example.EventManagement.domain.Manager.ManagerOutDto;
+import com.example.EventManagement.domain.Organizer.Organizer;
+import com.example.EventManagement.domain.Organizer.OrganizerMapper;
+import com.example.EventManagement.domain.Organizer.OrganizerOutDto;
+import com.example.EventManagement.domain.Student.Student;
+import com.example.EventManagement.domain.Student.StudentEventRegister;
+import com.example.EventManagement.domain.Student.StudentEventRegisterInDto;
+import com.example.EventManagement.domain.Student.StudentEventRegisterOutDto;
+import com.example.EventManagement.domain.Student.StudentMapper;
+import com.example.EventManagement.domain.Student.StudentOutDto;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitation;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitationInDTO;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitationOutDTO;
+import com.example.EventManagement.domain.organizeManageEvents.EventRole;
+import com.example.EventManagement.domain.organizeManageEvents.EventRoleInDTO;
+import com.example.EventManagement.domain.organizeManageEvents.EventRoleOUTDTO;
+import com.example.EventManagement.domain.organizeManageEvents.OME_mapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The generated mappers must produce exactly what the reflective ModelMapper bean used to.
+class MapperParityTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final User user = User.builder().id(7L).username("s@gmail.com").name("Student").build();
+
+    @Test
+    void event() {
+        EventMapper mapper = Mappers.getMapper(EventMapper.class);
+        Event event = Event.builder().id(3L).title("Expo").description("Long text").location("Hall")
+                .startAt(LocalDateTime.of(2026, 5, 1, 10, 0)).requiredVolunteer(12).managedbyManager(true)
+                .status("Event Created").category("Tech").tags("a,b").cost("0").createdBy(user).build();
+
+        assertEquals(modelMapper.map(event, EventOutDto.class), mapper.toOutDto(event));
+
+        EventInDto in = new EventInDto();
+        in.setId(9L);
+        in.setTitle("Updated");
+        in.setRequiredVolunteer("20");
+        in.setCreatedid(7L);
+        assertEquals(modelMapper.map(in, Event.class).toString(), mapper.toEntity(in).toString());
+
+        Event viaModelMapper = Event.builder().id(3L).title("Old").description("Keep?").createdBy(user).build();
+        Event viaMapStruct = Event.builder().id(3L).title("Old").description("Keep?").createdBy(user).build();
+        modelMapper.map(in, viaModelMapper);
+        mapper.updateEntity(in, viaMapStruct);
+        assertEquals(viaModelMapper.toString(), viaMapStruct.toString());
+    }
+
+    @Test
+    void studentAndRegistration() {
+        StudentMapper mapper = Mappers.getMapper(StudentMapper.class);
+        Student student = Student.builder().id(1L).phone("123").birthdate(LocalDate.of(2004, 1, 2))
+                .university("Uni").marks("9").user(user).build();
+        assertEquals(modelMapper.map(student, StudentOutDto.class), mapper.toOutDto(student));
+
+        StudentEventRegisterInDto in = new StudentEventRegisterInDto();
+        in.setEventid("3");
+        in.setUserid("7");
+        in.setSkills("Teamwork");
+        in.setStatus("PENDING");
+        // StudentService.RegisterForEvent replaces the event ModelMapper used to half-populate from the DTO
+        Event event = Event.builder().id(3L).title("Expo").build();
+        StudentEventRegister viaModelMapper = modelMapper.map(in, StudentEventRegister.class);
+        StudentEventRegister register = mapper.toEntity(in);
+        viaModelMapper.setEvent(event);
+        register.setEvent(event);
+        assertEquals(viaModelMapper.toString(), register.toString());
+
+        register.setUser(user);
+        assertEquals(modelMapper.map(register, StudentEventRegisterOutDto.class), mapper.toOutDto(register));
+    }
+
+    @Test
+    void managerAndOrganizer() {
+        ManagerMapper managerMapper = Mappers.getMapper(ManagerMapper.class);
+        Manager manager = Manager.builder().id(2L).phone("1").bio("Bio").yearsExp("5").user(user).build();
+        assertEquals(modelMapper.map(manager, ManagerOutDto.class), managerMapper.toOutDto(manager));
+
+        ManagerInDto in = new ManagerInDto();
+        in.setUserid(7L);
+        in.setPhone("2");
+        in.setEmail("m@gmail.com");
+        Manager viaModelMapper = Manager.builder().id(2L).bio("Bio").user(user).build();
+        Manager viaMapStruct = Manager.builder().id(2L).bio("Bio").user(user).build();
+        modelMapper.map(in, viaModelMapper);
+        managerMapper.updateEntity(in, viaMapStruct);
+        assertEquals(viaModelMapper.toString(), viaMapStruct.toString());
+
+        OrganizerMapper organizerMapper = Mappers.getMapper(OrganizerMapper.class);
+        Organizer organizer = Organizer.builder().id(4L).organizationName("Org").taxId("T1").user(user).build();
+        // OrganizerService overwrites name from the user, which ModelMapper filled from organizationName
+        OrganizerOutDto expected = modelMapper.map(organizer, OrganizerOutDto.class);
+        OrganizerOutDto actual = organizerMapper.toOutDto(organizer);
+        expected.setName(user.getName());
+        actual.setName(user.getName());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void rolesAndInvitations() {
+        OME_mapper mapper = Mappers.getMapper(OME_mapper.class);
+
+        EventRoleInDTO roleIn = new EventRoleInDTO();
+        roleIn.setTitle("Lead");
+        roleIn.setEventid("3");
+        roleIn.setDeadline(LocalDate.of(2026, 4, 1));
+        assertEquals(modelMapper.map(roleIn, EventRole.class).toString(), mapper.toEntity(roleIn).toString());
+
+        EventRole role = EventRole.builder().id(1L).title("Lead").budget("100").eventid(3L).build();
+        assertEquals(modelMapper.map(role, EventRoleOUTDTO.class), mapper.toOutDto(role));
+
+        EventInvitationInDTO invitationIn = new EventInvitationInDTO();
+        invitationIn.setEventid("3");
+        invitationIn.setRoleid("1");
+        invitationIn.setUserid("7");
+        invitationIn.setProposed_budget("100");
+        invitationIn.setSelected(true);
+        EventInvitation invitation = mapper.toEntity(invitationIn);
+        assertEquals(modelMapper.map(invitationIn, EventInvitation.class).toString(), invitation.toString());
+
+        invitation.setId(11L);
+        assertEquals(modelMapper.map(invitation, EventInvitationOutDTO.class), mapper.toOutDto(invitation));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.EventManagement.domain.config;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// MockMvc matchers for the SQL a request may issue, read from the stats QueryCountFilter leaves
+// on the request. Run with app.query-count.capture-statements=true to get the SQL in failures.
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    public static ResultMatcher atMost(int queries) {
+        return result -> {
+            RequestQueryStats stats = stats(result);
+            assertTrue(stats.getQueries() <= queries, () -> describe(result) + " ran " + stats.getQueries()
+                    + " queries, budget is " + queries + ":\n  " + String.join("\n  ", stats.getStatements()));
+        };
+    }
+
+    public static ResultMatcher rowsAtMost(int rows) {
+        return result -> {
+            RequestQueryStats stats = stats(result);
+            assertTrue(stats.getRows() <= rows, () -> describe(result) + " read " + stats.getRows()
+                    + " rows, budget is " + rows + ":\n  " + String.join("\n  ", stats.getStatements()));
+        };
+    }
+
+    private static RequestQueryStats stats(MvcResult result) {
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+        assertNotNull(stats, "no query stats on the request, is QueryCountFilter enabled?");
+        return stats;
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
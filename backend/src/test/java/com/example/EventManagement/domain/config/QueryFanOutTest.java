@@ -0,0 +1,54 @@
+package com.example.EventManagement.domain.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class QueryFanOutTest {
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private QueryFanOut queryFanOut;
+
+    @AfterEach
+    void tearDown() {
+        queryFanOut.shutdown();
+    }
+
+    @Test
+    void queriesAreCancelledAfterTheFanOutTimeout() {
+        queryFanOut = new QueryFanOut(10, 0, 10, 3_000, transactionManager);
+
+        Object timeout = queryFanOut.await(queryFanOut.call(() ->
+                entityManager.createNativeQuery("SELECT 1").getHints().get(SpecHints.HINT_SPEC_QUERY_TIMEOUT)));
+
+        // what is left of the fan-out's 3 s when the query is created
+        int ms = ((Number) timeout).intValue();
+        assertTrue(ms > 2_000 && ms <= 3_000, String.valueOf(ms));
+    }
+
+    @Test
+    void aTimeoutUnderASecondIsRoundedUpToOne() {
+        queryFanOut = new QueryFanOut(10, 0, 10, 200, transactionManager);
+
+        Object timeout = queryFanOut.await(queryFanOut.call(() ->
+                entityManager.createNativeQuery("SELECT 1").getHints().get(SpecHints.HINT_SPEC_QUERY_TIMEOUT)));
+
+        assertNotNull(timeout);
+        assertTrue(((Number) timeout).intValue() <= 1_000);
+    }
+}
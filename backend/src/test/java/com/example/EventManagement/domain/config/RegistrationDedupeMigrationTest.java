@@ -0,0 +1,48 @@
+package com.example.EventManagement.domain.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Registrations written before uk_ser_event_user existed can hold the same student twice for an
+// event; V4 has to drop the extra rows before it adds the key. Skipped without Docker.
+@Testcontainers(disabledWithoutDocker = true)
+class RegistrationDedupeMigrationTest {
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    void duplicateRegistrationsAreDroppedBeforeTheUniqueKey() {
+        DataSource dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        Flyway.configure().dataSource(dataSource).target("3").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        jdbc.update("INSERT INTO user (id, username, profile_completed, usertype) VALUES (1, 's1@gmail.com', '13', 'STUDENT'), (2, 's2@gmail.com', '13', 'STUDENT')");
+        jdbc.update("INSERT INTO events (id, title, managedby_manager) VALUES (1, 'Expo', 0), (2, 'Fair', 0)");
+        jdbc.update("""
+                INSERT INTO student_event_register (id, event_id, user_id, status) VALUES
+                    (1, 1, 1, 'PENDING'), (2, 1, 1, 'APPROVED'), (3, 1, 1, 'approved'),
+                    (4, 1, 2, 'REJECTED'), (5, 1, 2, 'PENDING'),
+                    (6, 2, 1, 'PENDING'), (7, 2, 1, 'PENDING'),
+                    (8, 2, 2, 'REJECTED')
+                """);
+
+        Flyway.configure().dataSource(dataSource).load().migrate();
+
+        List<Map<String, Object>> kept = jdbc.queryForList("SELECT id FROM student_event_register ORDER BY id");
+        assertEquals(List.of(2L, 5L, 6L, 8L), kept.stream().map(row -> ((Number) row.get("id")).longValue()).toList());
+        assertThrows(Exception.class, () ->
+                jdbc.update("INSERT INTO student_event_register (id, event_id, user_id, status) VALUES (9, 1, 1, 'PENDING')"));
+    }
+}
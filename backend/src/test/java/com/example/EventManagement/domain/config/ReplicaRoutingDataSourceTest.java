@@ -0,0 +1,146 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Two separate in-memory databases stand in for the primary and the replica; each answers
+// "which database am I" so the tests can see where a statement ran.
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JdbcTemplate primaryDb;
+    private JdbcTemplate replicaDb;
+    private ReplicaLagMonitor lagMonitor;
+    private ReadYourWrites readYourWrites;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primaryDb = new JdbcTemplate(database("primary"));
+        replicaDb = new JdbcTemplate(database("replica"));
+        replicaDb.execute("CREATE TABLE replica_lag (seconds INT)");
+        replicaDb.update("INSERT INTO replica_lag VALUES (0)");
+
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setMaxLagMs(5_000);
+        properties.setStickyMs(5_000);
+        properties.setLagQuery("SELECT seconds FROM replica_lag");
+        // checked by hand below
+        properties.setLagCheckMs(TimeUnit.HOURS.toMillis(1));
+
+        lagMonitor = new ReplicaLagMonitor(replicaDb.getDataSource(), properties, meterRegistry);
+        lagMonitor.check();
+        readYourWrites = new ReadYourWrites(properties, nanos::get);
+        routing = new ReplicaRoutingDataSource(primaryDb.getDataSource(), replicaDb.getDataSource(), lagMonitor,
+                readYourWrites, meterRegistry);
+
+        jdbc = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ReadRoutingContext.end();
+        routing.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+        assertEquals("primary", readWrite.execute(status -> whoAmI()));
+        assertEquals(1.0, meterRegistry.get("datasource.routing").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void statementsOutsideATransactionGoToThePrimary() {
+        assertEquals("primary", whoAmI());
+    }
+
+    @Test
+    void laggingOrUnreachableReplicaFallsBackToThePrimary() {
+        replicaDb.update("UPDATE replica_lag SET seconds = 30");
+        lagMonitor.check();
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+        assertEquals(30.0, meterRegistry.get("datasource.replica.lag").gauge().value());
+
+        replicaDb.update("UPDATE replica_lag SET seconds = 2");
+        lagMonitor.check();
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+
+        replicaDb.execute("DROP TABLE replica_lag");
+        lagMonitor.check();
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+        assertEquals(Double.NaN, meterRegistry.get("datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromThePrimaryForTheStickyWindow() {
+        ReadRoutingContext.begin("user:a", false);
+        readWrite.executeWithoutResult(status -> jdbc.update("UPDATE whoami SET name = name"));
+        assertEquals("primary", readOnly.execute(status -> whoAmI()), "rest of the writing request");
+        ReadRoutingContext.end();
+
+        ReadRoutingContext.begin("user:b", false);
+        assertEquals("replica", readOnly.execute(status -> whoAmI()), "other clients are not affected");
+        ReadRoutingContext.end();
+
+        // the next request of the same client, as ReadYourWritesFilter opens it
+        ReadRoutingContext.begin("user:a", readYourWrites.wroteRecently("user:a"));
+        assertEquals("primary", readOnly.execute(status -> whoAmI()));
+        ReadRoutingContext.end();
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        ReadRoutingContext.begin("user:a", readYourWrites.wroteRecently("user:a"));
+        assertEquals("replica", readOnly.execute(status -> whoAmI()), "window is over");
+    }
+
+    @Test
+    void cacheLoadsReadThePrimary() {
+        assertEquals("primary", ReadRoutingContext.cacheLoad(() -> readOnly.execute(status -> whoAmI())));
+        assertEquals("replica", readOnly.execute(status -> whoAmI()));
+        assertEquals(1.0, meterRegistry.get("datasource.routing").tag("reason", "cache-load").counter().count());
+    }
+
+    @Test
+    void aLagQueryIsRequired() {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setLagQuery(" ");
+
+        assertThrows(IllegalStateException.class,
+                () -> new ReplicaLagMonitor(replicaDb.getDataSource(), properties, meterRegistry));
+    }
+
+    private String whoAmI() {
+        return jdbc.queryForObject("SELECT name FROM whoami", String.class);
+    }
+
+    private static JdbcDataSource database(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE whoami (name VARCHAR(20))");
+        jdbc.update("INSERT INTO whoami VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.Manager.ManagerRepository;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The whole stack on replica routing. Both pools point at the same in-memory database, a
+// replica that is never behind, so the routing counters show where each request went.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.url=jdbc:h2:mem:replica-routing;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.lag-query=SELECT 0",
+        "app.datasource.replica.lag-check-ms=100",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("h2")
+@AutoConfigureMockMvc
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mvc;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User student;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        student = userRepository.findByUsername("student2@gmail.com").orElseThrow();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        for (int i = 0; i < 100 && meterRegistry.get("datasource.replica.lag").gauge().value() != 0; i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    @Test
+    void readEndpointsAreServedByTheReplica() throws Exception {
+        double replicaReads = count("replica", "read");
+        double primaryReads = count("primary", "write") + count("primary", "read-your-writes");
+
+        mvc.perform(get("/Student/{userid}", student.getId()).with(from("10.0.0.1"))).andExpect(status().isOk());
+
+        assertTrue(count("replica", "read") > replicaReads);
+        assertEquals(primaryReads, count("primary", "write") + count("primary", "read-your-writes"));
+    }
+
+    @Test
+    void cachedReadsAreLoadedFromThePrimary() throws Exception {
+        double cacheLoads = count("primary", "cache-load");
+        double replicaReads = count("replica", "read");
+
+        mvc.perform(get("/Event/eventlist").with(from("10.0.0.4"))).andExpect(status().isOk());
+
+        assertEquals(cacheLoads + 1, count("primary", "cache-load"));
+        assertEquals(replicaReads, count("replica", "read"));
+    }
+
+    @Test
+    void secondLevelCacheIsFilledFromThePrimary() throws Exception {
+        User manager = userRepository.findByUsername("m@gmail.com").orElseThrow();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        double cacheLoads = count("primary", "cache-load");
+        double replicaReads = count("replica", "read");
+
+        // the user by id, then the profile through the query cache
+        mvc.perform(get("/Manager/{userid}", manager.getId()).with(from("10.0.0.7"))).andExpect(status().isOk());
+
+        assertEquals(cacheLoads + 2, count("primary", "cache-load"));
+        assertEquals(replicaReads, count("replica", "read"));
+    }
+
+    @Test
+    void indexRebuildReadsThePrimary() {
+        double replicaReads = count("replica", "read");
+
+        assertTrue(eventService.rebuildIndexes() > 0);
+
+        assertEquals(replicaReads, count("replica", "read"));
+    }
+
+    @Test
+    void clientReadsItsOwnWriteFromThePrimary() throws Exception {
+        mvc.perform(post("/Student/save").with(from("10.0.0.2")).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"userid": "%d", "profileCompleted": "100", "university": "State"}
+                        """.formatted(student.getId())))
+                .andExpect(status().isOk());
+
+        double sticky = count("primary", "read-your-writes");
+        double replicaReads = count("replica", "read");
+        mvc.perform(get("/Student/{userid}", student.getId()).with(from("10.0.0.2"))).andExpect(status().isOk());
+        assertTrue(count("primary", "read-your-writes") > sticky);
+        assertEquals(replicaReads, count("replica", "read"));
+
+        // another client is not held back by it
+        mvc.perform(get("/Student/{userid}", student.getId()).with(from("10.0.0.3"))).andExpect(status().isOk());
+        assertTrue(count("replica", "read") > replicaReads);
+    }
+
+    @Test
+    void profileSaveReadsWhatItUpdatesFromThePrimary() throws Exception {
+        User manager = userRepository.findByUsername("m@gmail.com").orElseThrow();
+        double replicaReads = count("replica", "read");
+
+        // a fresh client each time, so read-your-writes does not pin the second save
+        mvc.perform(post("/Manager/save").with(from("10.0.0.5")).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"userid": %d, "jobTitle": "Coordinator"}
+                        """.formatted(manager.getId())))
+                .andExpect(status().isOk());
+        mvc.perform(post("/Manager/save").with(from("10.0.0.6")).contentType(MediaType.APPLICATION_JSON).content("""
+                        {"userid": %d, "jobTitle": "Lead"}
+                        """.formatted(manager.getId())))
+                .andExpect(status().isOk());
+
+        assertEquals(replicaReads, count("replica", "read"));
+        assertEquals(1, managerRepository.findAll().stream()
+                .filter(profile -> profile.getUser().getId().equals(manager.getId()))
+                .count());
+    }
+
+    @Test
+    void bothPoolsPublishTheirMetrics() {
+        assertNotNull(meterRegistry.get("hikaricp.connections").tag("pool", "primary").gauge());
+        assertNotNull(meterRegistry.get("hikaricp.connections").tag("pool", "replica").gauge());
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static RequestPostProcessor from(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitationRepository;
+import com.example.EventManagement.domain.studentEventRegister.SER_repository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the Flyway scripts on a real MySQL and checks, with EXPLAIN, that the native queries
+// joining on the former VARCHAR ids now go through the new indexes. Skipped without Docker.
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationExplainTest {
+
+    private static final int EVENTS = 200;
+    private static final int MANAGERS = 50;
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        DataSource dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbc = new JdbcTemplate(dataSource);
+
+        jdbc.batchUpdate("INSERT INTO user (id, username, profile_completed, usertype) VALUES (?, ?, '13', 'MANAGER')",
+                IntStream.rangeClosed(1, MANAGERS).mapToObj(i -> new Object[]{i, "m" + i + "@gmail.com"}).toList());
+        jdbc.batchUpdate("INSERT INTO events (id, title, managedby_manager) VALUES (?, ?, 1)",
+                IntStream.rangeClosed(1, EVENTS).mapToObj(i -> new Object[]{i, "Event " + i}).toList());
+        jdbc.batchUpdate("INSERT INTO manager_role (id, title, eventid) VALUES (?, 'Lead', ?)",
+                IntStream.rangeClosed(1, EVENTS).mapToObj(i -> new Object[]{i, i}).toList());
+        jdbc.batchUpdate("INSERT INTO event_invitation (eventid, roleid, userid, selected, status) VALUES (?, ?, ?, ?, 'SENT')",
+                IntStream.range(0, EVENTS * MANAGERS / 5)
+                        .mapToObj(i -> new Object[]{i % EVENTS + 1, i % EVENTS + 1, i % MANAGERS + 1, i % 7 == 0})
+                        .toList());
+        jdbc.execute("ANALYZE TABLE user, events, manager_role, event_invitation");
+    }
+
+    @Test
+    void migratedColumnsAreTypedForeignKeys() {
+        List<Map<String, Object>> columns = jdbc.queryForList("""
+                SELECT table_name, column_name, data_type FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND column_name IN ('eventid', 'roleid', 'userid', 'selected')
+                """);
+        assertEquals(5, columns.size());
+        columns.forEach(column -> assertEquals("selected".equals(column.get("COLUMN_NAME")) ? "bit" : "bigint",
+                column.get("DATA_TYPE"), column.toString()));
+
+        Integer foreignKeys = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.referential_constraints
+                WHERE constraint_schema = DATABASE() AND constraint_name IN
+                    ('fk_invitation_event', 'fk_invitation_role', 'fk_invitation_user', 'fk_manager_role_event')
+                """, Integer.class);
+        assertEquals(4, foreignKeys);
+    }
+
+    @Test
+    void managerInvitationsUseTheUserIndex() throws Exception {
+        String sql = nativeQuery(EventInvitationRepository.class, "findByUserid", Long.class);
+
+        assertUses(sql.replace(":userid", "7"), "ei", "idx_invitation_user_selected");
+    }
+
+    @Test
+    void assignedEventsOfAManagerUseTheUserSelectedIndex() throws Exception {
+        String sql = nativeQuery(EventRepository.class, "findByAssignedEventsManager", Long.class);
+
+        assertUses(sql.replace(":userid", "7"), "ei", "idx_invitation_user_selected");
+        assertUses(sql.replace(":userid", "7"), "e", "PRIMARY");
+    }
+
+    @Test
+    void dashboardStatsUseTheUserSelectedIndex() throws Exception {
+        String sql = nativeQuery(SER_repository.class, "getEventStats", Long.class);
+
+        assertUses(sql.replace(":userid", "7"), "ei", "idx_invitation_user_selected");
+    }
+
+    @Test
+    void homeDataListsUseTheEventIndexes() {
+        assertUses("SELECT * FROM event_invitation ei WHERE ei.eventid = 7", "ei", "idx_invitation_event");
+        assertUses("SELECT * FROM manager_role mr WHERE mr.eventid = 7", "mr", "idx_manager_role_event");
+    }
+
+    @Test
+    void loginLooksUpUsernameByUniqueIndex() {
+        assertUses("SELECT * FROM user u WHERE u.username = 'm7@gmail.com'", "u", "uk_user_username");
+    }
+
+    private static void assertUses(String sql, String table, String index) {
+        List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + sql);
+        Map<String, Object> row = plan.stream()
+                .filter(step -> table.equals(step.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no step for " + table + " in " + plan));
+        assertEquals(index, row.get("key"), plan.toString());
+        assertNotEquals("ALL", row.get("type"), plan.toString());
+    }
+
+    private static String nativeQuery(Class<?> repository, String method, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return repository.getMethod(method, parameterTypes).getAnnotation(Query.class).value();
+    }
+}
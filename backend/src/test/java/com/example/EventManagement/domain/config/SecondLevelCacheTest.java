@@ -0,0 +1,181 @@
+package com.example.EventManagement.domain.config;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Manager.Manager;
+import com.example.EventManagement.domain.Manager.ManagerRepository;
+import com.example.EventManagement.domain.Organizer.Organizer;
+import com.example.EventManagement.domain.Organizer.OrganizerRepository;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.organizeManageEvents.EventRole;
+import com.example.EventManagement.domain.organizeManageEvents.EventRoleRepository;
+import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.studentEventRegister.EventRegistrationStatsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Each step commits in its own transaction, like separate requests: cache entries are written
+// on commit, so a rolled-back test transaction would never show them.
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ManagerRepository managerRepository;
+    @Autowired
+    private OrganizerRepository organizerRepository;
+    @Autowired
+    private EventRoleRepository eventRoleRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationStatsRepository statsRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        transaction.executeWithoutResult(status -> {
+            eventRoleRepository.deleteAllInBatch();
+            statsRepository.deleteAllInBatch();
+            eventRepository.deleteAllInBatch();
+            managerRepository.deleteAllInBatch();
+            organizerRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void userIsReadFromTheCacheAndSeesItsUpdates() {
+        Long id = inTransaction(() -> userRepository.save(user("cached@gmail.com", "Before")).getId());
+
+        assertEquals("Before", inTransaction(() -> userRepository.findById(id).orElseThrow().getName()));
+        assertTrue(entityManagerFactory.getCache().contains(User.class, id));
+        assertNoStatements(() -> userRepository.findById(id).orElseThrow());
+
+        transaction.executeWithoutResult(status -> userRepository.findById(id).orElseThrow().setName("After"));
+
+        long hits = statistics.getDomainDataRegionStatistics("user").getHitCount();
+        assertEquals("After", inTransaction(() -> userRepository.findById(id).orElseThrow().getName()));
+        assertEquals(hits + 1, statistics.getDomainDataRegionStatistics("user").getHitCount(),
+                "the update refreshed the entry instead of only dropping it");
+    }
+
+    @Test
+    void managerProfileLookupIsCachedAndSeesEdits() {
+        Long userId = inTransaction(() -> {
+            User user = userRepository.save(user("manager@gmail.com", "Manager"));
+            managerRepository.save(Manager.builder().user(user).jobTitle("Lead").build());
+            return user.getId();
+        });
+
+        assertEquals("Lead", inTransaction(() -> managerRepository.findByUserId(userId).getJobTitle()));
+        assertNoStatements(() -> managerRepository.findByUserId(userId));
+
+        transaction.executeWithoutResult(status -> managerRepository.findByUserId(userId).setJobTitle("Director"));
+
+        assertEquals("Director", inTransaction(() -> managerRepository.findByUserId(userId).getJobTitle()));
+    }
+
+    @Test
+    void organizerProfileLookupSeesAProfileCreatedAfterAMiss() {
+        Long userId = inTransaction(() -> userRepository.save(user("organizer@gmail.com", "Organizer")).getId());
+
+        // a cached "no profile yet" must not outlive the insert
+        assertNull(inTransaction(() -> organizerRepository.findByUserId(userId)));
+        transaction.executeWithoutResult(status -> organizerRepository.save(Organizer.builder()
+                .user(userRepository.getReferenceById(userId)).organizationName("Green Org").build()));
+
+        assertEquals("Green Org", inTransaction(() -> organizerRepository.findByUserId(userId).getOrganizationName()));
+        assertNoStatements(() -> organizerRepository.findByUserId(userId));
+    }
+
+    @Test
+    void cachedRoleListFollowsAddsAndDeletes() {
+        Long eventId = inTransaction(() -> eventRepository.save(Event.builder().title("Expo").build()).getId());
+        Long first = inTransaction(() -> eventRoleRepository.save(role(eventId, "Lead")).getId());
+
+        assertEquals(List.of("Lead"), roleTitles(eventId));
+        assertNoStatements(() -> eventRoleRepository.findByEventid(eventId));
+
+        transaction.executeWithoutResult(status -> eventRoleRepository.save(role(eventId, "Logistics")));
+        assertEquals(List.of("Lead", "Logistics"), roleTitles(eventId));
+
+        transaction.executeWithoutResult(status -> eventRoleRepository.findById(first).orElseThrow().setTitle("Stage"));
+        assertEquals(List.of("Logistics", "Stage"), roleTitles(eventId));
+
+        transaction.executeWithoutResult(status -> eventRoleRepository.deleteById(first));
+        assertEquals(List.of("Logistics"), roleTitles(eventId));
+    }
+
+    @Test
+    void nativeCounterWritesLeaveCachedEntitiesAlone() {
+        Long userId = inTransaction(() -> userRepository.save(user("student@gmail.com", "Student")).getId());
+        Long eventId = inTransaction(() -> eventRepository.save(Event.builder().title("Expo").build()).getId());
+        inTransaction(() -> userRepository.findById(userId).orElseThrow());
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+
+        transaction.executeWithoutResult(status -> statsRepository.addCounts(eventId, 0, 1, 1, 0, 0));
+
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+
+    private List<String> roleTitles(Long eventId) {
+        return inTransaction(() -> eventRoleRepository.findByEventid(eventId).stream()
+                .map(EventRole::getTitle)
+                .sorted()
+                .toList());
+    }
+
+    private void assertNoStatements(Supplier<?> read) {
+        long before = statistics.getPrepareStatementCount();
+        assertNotNull(inTransaction(read));
+        assertEquals(before, statistics.getPrepareStatementCount(), "served without touching the database");
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transaction.execute(status -> work.get());
+    }
+
+    private static User user(String username, String name) {
+        return User.builder().username(username).name(name).profileCompleted("13").build();
+    }
+
+    private static EventRole role(Long eventId, String title) {
+        return EventRole.builder().eventid(eventId).title(title).build();
+    }
+}
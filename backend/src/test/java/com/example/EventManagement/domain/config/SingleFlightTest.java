@@ -0,0 +1,241 @@
+package com.example.EventManagement.domain.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The first load of each test blocks on a latch, so the calls made meanwhile find it in flight.
+class SingleFlightTest {
+
+    private static final String FLIGHT = "test";
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(8);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private SingleFlightProperties properties;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SingleFlightProperties();
+        singleFlight = new SingleFlight(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        singleFlight.shutdown();
+    }
+
+    @Test
+    void concurrentCallsShareOneLoad() throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("row"))));
+        }
+        awaitCalls("coalesced", 7);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("row", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, calls("leader"));
+    }
+
+    @Test
+    void otherKeysLoadOnTheirOwn() throws Exception {
+        Future<String> first = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("one")));
+        awaitCalls("leader", 1);
+
+        assertEquals("two", singleFlight.execute(FLIGHT, 2L, () -> "two"));
+        release.countDown();
+        assertEquals("one", first.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void joinersShareTheFailureAndTheNextCallLoadsAgain() throws Exception {
+        IllegalStateException failure = new IllegalStateException("database gone");
+        Future<Object> leader = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw failure;
+        }));
+        awaitCalls("leader", 1);
+        Future<Object> joiner = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, () -> "unused"));
+        awaitCalls("coalesced", 1);
+        release.countDown();
+
+        assertSame(failure, assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(Exception.class, () -> joiner.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals("again", singleFlight.execute(FLIGHT, 1L, () -> "again"));
+    }
+
+    @Test
+    void callersThatTimeOutReadOnTheirOwn() throws Exception {
+        properties.getTimeouts().put(FLIGHT, 100L);
+        Future<String> leader = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("row")));
+        awaitCalls("leader", 1);
+
+        assertEquals("own", singleFlight.execute(FLIGHT, 1L, () -> "own"));
+        assertTrue(meterRegistry.counter("singleflight.timeouts", "flight", FLIGHT).count() >= 1.0);
+
+        release.countDown();
+        assertEquals("row", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aJoinerWaitsTheFullTimeoutFromItsOwnArrival() throws Exception {
+        properties.getTimeouts().put(FLIGHT, 300L);
+        Future<String> leader = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("row")));
+        awaitCalls("leader", 1);
+        Thread.sleep(200);
+        AtomicInteger ownLoads = new AtomicInteger();
+        Future<String> joiner = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, () -> "own" + ownLoads.incrementAndGet()));
+        awaitCalls("coalesced", 1);
+
+        // the leader gives up at 300 ms; the joiner, in since 200 ms, still waits
+        awaitTimeouts(1);
+        release.countDown();
+
+        assertEquals("row", joiner.get(5, TimeUnit.SECONDS));
+        assertEquals(0, ownLoads.get());
+        assertEquals("row", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void theLoadIsCancelledOnceNobodyWaitsForIt() throws Exception {
+        properties.getTimeouts().put(FLIGHT, 100L);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> load = () -> {
+            if (loads.incrementAndGet() == 1) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return "row";
+        };
+
+        assertEquals("row", singleFlight.execute(FLIGHT, 1L, load));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.counter("singleflight.cancelled", "flight", FLIGHT).count());
+        assertEquals("next", singleFlight.execute(FLIGHT, 1L, () -> "next"));
+        assertEquals(2, calls("leader"));
+    }
+
+    @Test
+    void theLoadCarriesOnWhileAnyoneWaits() throws Exception {
+        properties.getTimeouts().put(FLIGHT, 300L);
+        Future<String> leader = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("row")));
+        awaitCalls("leader", 1);
+        Thread.sleep(200);
+        Future<String> joiner = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, () -> "own"));
+        awaitCalls("coalesced", 1);
+
+        awaitTimeouts(1);
+        assertEquals(0.0, meterRegistry.counter("singleflight.cancelled", "flight", FLIGHT).count());
+        release.countDown();
+        assertEquals("row", joiner.get(5, TimeUnit.SECONDS));
+        assertEquals("row", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aFlightPastItsTimeoutTakesNoJoiners() throws Exception {
+        properties.getTimeouts().put(FLIGHT, 100L);
+        Future<String> stuck = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("old")));
+        awaitCalls("leader", 1);
+        Thread.sleep(150);
+
+        assertEquals("new", singleFlight.execute(FLIGHT, 1L, () -> "new"));
+        assertEquals(2, calls("leader"));
+        release.countDown();
+        assertEquals("old", stuck.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void forgottenFlightsTakeNoNewJoiners() throws Exception {
+        Future<String> beforeWrite = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("old")));
+        awaitCalls("leader", 1);
+
+        singleFlight.forget(FLIGHT, 1L);
+
+        assertEquals("new", singleFlight.execute(FLIGHT, 1L, () -> "new"));
+        release.countDown();
+        assertEquals("old", beforeWrite.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void aClientThatJustWroteReadsAlone() throws Exception {
+        Future<String> running = callers.submit(() -> singleFlight.execute(FLIGHT, 1L, blockedLoad("old")));
+        awaitCalls("leader", 1);
+
+        ReadRoutingContext.begin("writer", true);
+        try {
+            assertEquals("own", singleFlight.execute(FLIGHT, 1L, () -> "own"));
+        } finally {
+            ReadRoutingContext.end();
+        }
+        assertEquals(1, calls("bypassed"));
+        release.countDown();
+        assertEquals("old", running.get(5, TimeUnit.SECONDS));
+    }
+
+    private Supplier<String> blockedLoad(String value) {
+        return () -> {
+            loads.incrementAndGet();
+            await(release);
+            return value;
+        };
+    }
+
+    private long calls(String role) {
+        return (long) meterRegistry.counter("singleflight.calls", "flight", FLIGHT, "role", role).count();
+    }
+
+    private void awaitTimeouts(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.counter("singleflight.timeouts", "flight", FLIGHT).count() < count) {
+            assertTrue(System.nanoTime() < deadline, "expected " + count + " timeouts");
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitCalls(String role, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls(role) < count) {
+            assertTrue(System.nanoTime() < deadline, "expected " + count + " " + role + " calls");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.EventManagement.domain.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void seedsTheConfiguredVolumesWithConsistentReferences() {
+        SeedProperties properties = smallDataset();
+        new SyntheticDataGenerator(jdbcTemplate, transactionManager, properties).generate();
+
+        assertEquals(1_000L, count("SELECT COUNT(*) FROM user"));
+        assertEquals(20L, count("SELECT COUNT(*) FROM user WHERE usertype = 'MANAGER'"));
+        assertEquals(10L, count("SELECT COUNT(*) FROM user WHERE usertype = 'ORGANIZER'"));
+        assertEquals(100L, count("SELECT COUNT(*) FROM events"));
+        assertEquals(5_000L, count("SELECT COUNT(*) FROM student_event_register"));
+
+        // registrations only by students, never twice for the same event
+        assertEquals(0L, count("""
+                SELECT COUNT(*) FROM student_event_register r JOIN user u ON u.id = r.user_id
+                WHERE u.usertype <> 'STUDENT'
+                """));
+        assertEquals(5_000L, count("SELECT COUNT(DISTINCT event_id * 100000 + user_id) FROM student_event_register"));
+        // invitations go to managers, for roles of events run by managers
+        assertEquals(0L, count("""
+                SELECT COUNT(*) FROM event_invitation ei
+                JOIN user u ON u.id = ei.userid
+                JOIN manager_role mr ON mr.id = ei.roleid AND mr.eventid = ei.eventid
+                JOIN events e ON e.id = ei.eventid
+                WHERE u.usertype <> 'MANAGER' OR e.managedby_manager = FALSE
+                """));
+        assertTrue(count("SELECT COUNT(*) FROM event_invitation") > 0);
+        assertEquals(count("SELECT COUNT(*) FROM user WHERE profile_completed = '100'"),
+                count("SELECT (SELECT COUNT(*) FROM student) + (SELECT COUNT(*) FROM manager) + (SELECT COUNT(*) FROM organizer)"));
+    }
+
+    @Test
+    void popularEventsTakeMostRegistrations() {
+        new SyntheticDataGenerator(jdbcTemplate, transactionManager, smallDataset()).generate();
+
+        List<Long> perEvent = jdbcTemplate.queryForList("""
+                SELECT COUNT(*) FROM student_event_register GROUP BY event_id ORDER BY COUNT(*) DESC
+                """, Long.class);
+        long topTen = perEvent.stream().limit(10).mapToLong(Long::longValue).sum();
+        // skewed, not uniform: the top 10% of events hold well over 10% of the registrations
+        assertTrue(topTen > 5_000 / 4, "top ten events hold " + topTen);
+        assertTrue(perEvent.get(0) <= 970, "capped at one registration per student");
+    }
+
+    @Test
+    void usersSignInWithTheDocumentedPasswords() {
+        new SyntheticDataGenerator(jdbcTemplate, transactionManager, smallDataset()).generate();
+
+        Map<String, Object> student = jdbcTemplate.queryForMap(
+                "SELECT password, usertype FROM user WHERE username = 'student7@gmail.com'");
+        assertEquals("STUDENT", student.get("usertype"));
+        assertTrue(new BCryptPasswordEncoder().matches("s7", (String) student.get("password")));
+        String manager = jdbcTemplate.queryForObject(
+                "SELECT password FROM user WHERE username = 'manager13@gmail.com'", String.class);
+        // 13 % 8 distinct passwords
+        assertTrue(new BCryptPasswordEncoder().matches("s5", manager));
+    }
+
+    @Test
+    void sequencesContinueAfterTheSeededIds() {
+        new SyntheticDataGenerator(jdbcTemplate, transactionManager, smallDataset()).generate();
+
+        for (String table : List.of("user", "events", "student_event_register", "event_invitation", "manager_role")) {
+            long max = count("SELECT MAX(id) FROM " + table);
+            long next = count("SELECT NEXT VALUE FOR " + table + "_seq");
+            assertTrue(next > max, table + ": next " + next + " after max " + max);
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static SeedProperties smallDataset() {
+        SeedProperties properties = new SeedProperties();
+        properties.setUsers(1_000);
+        properties.setEvents(100);
+        properties.setRegistrations(5_000);
+        properties.setDistinctPasswords(8);
+        properties.setBatchSize(256);
+        return properties;
+    }
+}
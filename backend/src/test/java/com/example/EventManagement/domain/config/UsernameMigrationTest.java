@@ -0,0 +1,54 @@
+package com.example.EventManagement.domain.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// V2 adds uk_user_username after it has retyped the invitation and role columns; MySQL cannot
+// roll those back, so duplicate usernames have to stop it before it starts. Skipped without Docker.
+@Testcontainers(disabledWithoutDocker = true)
+class UsernameMigrationTest {
+
+    @Container
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Test
+    void duplicateUsernamesStopV2BeforeItChangesAnything() {
+        DataSource dataSource = new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        Flyway.configure().dataSource(dataSource).target("1").load().migrate();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO user (id, username, profile_completed, usertype) VALUES (1, 'a@gmail.com', '13', 'STUDENT'), (2, 'A@gmail.com', '13', 'MANAGER')");
+
+        FlywayException failure = assertThrows(FlywayException.class,
+                () -> Flyway.configure().dataSource(dataSource).load().migrate());
+
+        assertTrue(failure.getMessage().contains("resolve the duplicate usernames first, e.g. a@gmail.com"), failure.getMessage());
+        assertEquals("varchar", columnType(jdbc, "event_invitation", "eventid"));
+
+        // once the accounts are sorted out, the same migration goes through
+        jdbc.update("DELETE FROM user WHERE id = 2");
+        Flyway flyway = Flyway.configure().dataSource(dataSource).load();
+        flyway.repair();
+        flyway.migrate();
+
+        assertEquals("bigint", columnType(jdbc, "event_invitation", "eventid"));
+        assertThrows(Exception.class, () ->
+                jdbc.update("INSERT INTO user (id, username, profile_completed) VALUES (3, 'a@gmail.com', '13')"));
+    }
+
+    private static String columnType(JdbcTemplate jdbc, String table, String column) {
+        return jdbc.queryForObject("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+                """, String.class, table, column);
+    }
+}
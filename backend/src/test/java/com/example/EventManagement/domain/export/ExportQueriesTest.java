@@ -0,0 +1,104 @@
+package com.example.EventManagement.domain.export;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Student.StudentEventRegister;
+import com.example.EventManagement.domain.Student.StudentEventRegisterRepository;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import com.example.EventManagement.domain.studentEventRegister.SER_repository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The export queries against a real database: H2 takes the batched variants, since it rejects
+// the MySQL row-by-row fetch size.
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ExportQueriesTest {
+
+    @Autowired
+    private SER_repository serRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentEventRegisterRepository registerRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ExportService exportService;
+    private Event expo;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(serRepository, objectMapper, entityManagerFactory);
+        expo = eventRepository.save(Event.builder().title("Expo").startAt(LocalDateTime.of(2026, 5, 1, 10, 0)).build());
+        eventRepository.save(Event.builder().title("Meetup").build());
+        register(expo, "a@gmail.com", "APPROVED");
+        register(expo, "b@gmail.com", "PENDING");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void eventApplicantsStreamAsNdjsonAndCsv() throws Exception {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exportService.writeEventApplicants(ExportFormat.NDJSON, ndjson);
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Expo", first.get("title").asText());
+        assertEquals(2, first.get("applicants").size());
+        assertEquals("a@gmail.com", first.get("applicants").get(0).get("username").asText());
+        assertEquals(0, objectMapper.readTree(lines[1]).get("applicants").size());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.writeEventApplicants(ExportFormat.CSV, csv);
+
+        // the header, two applicant rows and the event nobody applied to
+        assertEquals(4, csv.toString(StandardCharsets.UTF_8).split("\r\n").length);
+    }
+
+    @Test
+    void registrationsStreamAsNdjsonAndCsv() throws Exception {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        exportService.writeRegistrations(String.valueOf(expo.getId()), ExportFormat.NDJSON, ndjson);
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("APPROVED", objectMapper.readTree(lines[0]).get("status").asText());
+        assertEquals("b@gmail.com", objectMapper.readTree(lines[1]).get("username").asText());
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exportService.writeRegistrations(String.valueOf(expo.getId()), ExportFormat.CSV, csv);
+
+        assertEquals(3, csv.toString(StandardCharsets.UTF_8).split("\r\n").length);
+    }
+
+    private void register(Event event, String username, String status) {
+        User user = userRepository.save(User.builder().username(username).name(username).profileCompleted("13").build());
+        registerRepository.save(StudentEventRegister.builder().event(event).user(user).status(status).build());
+    }
+}
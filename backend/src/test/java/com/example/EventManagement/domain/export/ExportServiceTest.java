@@ -0,0 +1,95 @@
+package com.example.EventManagement.domain.export;
+
+import com.example.EventManagement.domain.studentEventRegister.EventApplicantExportRow;
+import com.example.EventManagement.domain.studentEventRegister.SER_repository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ExportServiceTest {
+
+    private final SER_repository serRepository = mock(SER_repository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ExportService exportService = new ExportService(serRepository, objectMapper, true);
+
+    @Test
+    void ndjsonWritesOneLinePerEventWithItsApplicants() throws Exception {
+        Stream<EventApplicantExportRow> rows = Stream.of(
+                row(1L, "Expo", 10L, "Asha"),
+                row(1L, "Expo", 11L, "Ravi"),
+                row(2L, "Meetup", null, null));
+        when(serRepository.streamEventApplicants()).thenReturn(rows);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEventApplicants(ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1, first.get("id").asLong());
+        assertEquals(2, first.get("applicants").size());
+        assertEquals("Ravi", first.get("applicants").get(1).get("name").asText());
+        assertEquals(0, objectMapper.readTree(lines[1]).get("applicants").size());
+    }
+
+    @Test
+    void theFirstEventStartsBeforeItsApplicantsAreRead() throws Exception {
+        Stream<EventApplicantExportRow> rows = Stream.of(
+                row(1L, "Expo", 10L, "Asha"),
+                row(1L, "Expo", 11L, "Ravi"));
+        when(serRepository.streamEventApplicants()).thenReturn(rows);
+        List<String> flushed = new ArrayList<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushed.add(toString(StandardCharsets.UTF_8));
+            }
+        };
+
+        exportService.writeEventApplicants(ExportFormat.NDJSON, out);
+
+        assertTrue(flushed.stream().anyMatch(sent -> sent.endsWith("\"applicants\":[")));
+    }
+
+    @Test
+    void csvQuotesOnlyWhenNeeded() throws Exception {
+        EventApplicantExportRow row = row(1L, "Expo, \"2026\"", 10L, "Asha");
+        when(serRepository.streamEventApplicants()).thenReturn(Stream.of(row));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeEventApplicants(ExportFormat.CSV, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("eventId,title,startAt"));
+        assertTrue(lines[1].startsWith("1,\"Expo, \"\"2026\"\"\",2026-05-01T10:00,"));
+        assertEquals("", ExportService.escapeCsv(null));
+    }
+
+    @Test
+    void unknownFormatIsRejected() {
+        assertEquals(ExportFormat.CSV, ExportFormat.from("CSV"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.from("xml"));
+    }
+
+    private static EventApplicantExportRow row(Long eventId, String title, Long registrationId, String name) {
+        EventApplicantExportRow row = mock(EventApplicantExportRow.class);
+        when(row.getEventId()).thenReturn(eventId);
+        when(row.getTitle()).thenReturn(title);
+        when(row.getStartAt()).thenReturn(LocalDateTime.of(2026, 5, 1, 10, 0));
+        when(row.getRegistrationId()).thenReturn(registrationId);
+        when(row.getName()).thenReturn(name);
+        return row;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.EventManagement.domain.organizeManageEvents;
+
+import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.config.QueryFanOut;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+// getHomeData p50/p99 with each query costing a fixed 15 ms round trip: the old one-after-another
+// sequence against the fan-out. mvn test -Pbenchmark -Dtest=OME_serviceBenchmarkTest
+@Tag("benchmark")
+class OME_serviceBenchmarkTest {
+
+    private static final long ROUND_TRIP_MS = 15;
+    private static final int REQUESTS = 200;
+
+    @Test
+    void sequentialVersusFanOut() {
+        EventRoleRepository roleRepository = mock(EventRoleRepository.class);
+        EventInvitationRepository invitationRepository = mock(EventInvitationRepository.class);
+        EventService eventService = mock(EventService.class);
+        when(invitationRepository.getmangerlist()).thenAnswer(slow(List.of()));
+        when(roleRepository.findByEventid(1L)).thenAnswer(slow(List.of()));
+        when(invitationRepository.findByEventid(1L)).thenAnswer(slow(List.of()));
+        when(eventService.getEvent(1L)).thenAnswer(slow(new EventOutDto()));
+
+        QueryFanOut queryFanOut = new QueryFanOut(10, 0, 100, 2_000);
+        OME_service omeService = new OME_service(mock(OME_repository.class), roleRepository, invitationRepository,
+                eventService, Mappers.getMapper(OME_mapper.class), queryFanOut, new SimpleMeterRegistry());
+        try {
+            List<Long> sequential = new ArrayList<>();
+            List<Long> fanOut = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                long started = System.nanoTime();
+                invitationRepository.getmangerlist();
+                roleRepository.findByEventid(1L);
+                invitationRepository.findByEventid(1L);
+                eventService.getEvent(1L);
+                sequential.add(System.nanoTime() - started);
+
+                started = System.nanoTime();
+                omeService.getHomeData("1");
+                fanOut.add(System.nanoTime() - started);
+            }
+            System.out.printf("getHomeData, %d ms per query: sequential p50 %.1f ms p99 %.1f ms, fan-out p50 %.1f ms p99 %.1f ms%n",
+                    ROUND_TRIP_MS, percentile(sequential, 50), percentile(sequential, 99),
+                    percentile(fanOut, 50), percentile(fanOut, 99));
+        } finally {
+            queryFanOut.shutdown();
+        }
+    }
+
+    private static <T> Answer<T> slow(T result) {
+        return invocation -> {
+            Thread.sleep(ROUND_TRIP_MS);
+            return result;
+        };
+    }
+
+    private static double percentile(List<Long> nanos, int percentile) {
+        List<Long> sorted = nanos.stream().sorted().toList();
+        return sorted.get(Math.min(sorted.size() - 1, sorted.size() * percentile / 100)) / 1e6;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.EventManagement.domain.organizeManageEvents;
+
+import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.Event.EventService;
+import com.example.EventManagement.domain.config.QueryFanOut;
+import com.example.EventManagement.domain.error.FanOutTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OME_serviceTest {
+
+    private final EventRoleRepository roleRepository = mock(EventRoleRepository.class);
+    private final EventInvitationRepository invitationRepository = mock(EventInvitationRepository.class);
+    private final EventService eventService = mock(EventService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryFanOut queryFanOut = new QueryFanOut(10, 0, 10, 200);
+
+    private final OME_service omeService = new OME_service(mock(OME_repository.class), roleRepository,
+            invitationRepository, eventService, Mappers.getMapper(OME_mapper.class), queryFanOut, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        queryFanOut.shutdown();
+    }
+
+    @Test
+    void homeDataIsComposedFromAllFourReads() {
+        EventOutDto event = new EventOutDto();
+        event.setTitle("Expo");
+        when(eventService.getEvent(3L)).thenReturn(event);
+        when(invitationRepository.getmangerlist()).thenReturn(List.of());
+        when(roleRepository.findByEventid(3L)).thenReturn(List.of(EventRole.builder().id(1L).title("Lead").build()));
+        when(invitationRepository.findByEventid(3L)).thenReturn(List.of(EventInvitation.builder().id(2L).build()));
+
+        Map<String, Object> data = omeService.getHomeData("3");
+
+        assertSame(event, data.get("event"));
+        assertEquals(List.of(), data.get("managerlist"));
+        assertEquals("Lead", ((List<EventRoleOUTDTO>) data.get("rolelist")).get(0).getTitle());
+        assertEquals(1, ((List<?>) data.get("invitationList")).size());
+        assertEquals(1, meterRegistry.get("ome.home.data").timer().count());
+    }
+
+    @Test
+    void slowQueryFailsTheRequestInsteadOfHoldingIt() {
+        when(eventService.getEvent(3L)).thenReturn(new EventOutDto());
+        when(invitationRepository.getmangerlist()).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return List.of();
+        });
+
+        long started = System.currentTimeMillis();
+        assertThrows(FanOutTimeoutException.class, () -> omeService.getHomeData("3"));
+        assertTrue(System.currentTimeMillis() - started < 1_500);
+    }
+
+    @Test
+    void poolNeverExceedsHalfTheConnectionPool() {
+        QueryFanOut capped = new QueryFanOut(10, 50, 10, 200);
+        try {
+            assertEquals(5, capped.poolSize());
+        } finally {
+            capped.shutdown();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.error.HashingBusyException;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fullQueueIsRejectedStraightAway() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slow, 4, 1, 1, 2, meterRegistry);
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            waitFor(() -> meterRegistry.get("auth.password.hash.active").gauge().value() == 1);
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            waitFor(() -> meterRegistry.get("auth.password.hash.queue").gauge().value() == 1);
+
+            HashingBusyException busy = assertThrows(HashingBusyException.class, () -> encoder.encode("c"));
+            assertEquals(2, busy.getRetryAfterSeconds());
+            assertEquals(1, meterRegistry.get("auth.password.hash.rejected").counter().count());
+
+            release.countDown();
+            assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        } finally {
+            release.countDown();
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void hashesWithAnotherCostNeedUpgrading() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, 1, 4, 1, meterRegistry);
+        try {
+            assertFalse(encoder.upgradeEncoding(encoder.encode("pw")));
+            assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("pw")));
+            assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("pw")));
+            assertTrue(encoder.matches("pw", new BCryptPasswordEncoder(4).encode("pw")));
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void loginRehashesAPasswordStoredWithTheOldCost() {
+        UserRepository userRepository = mock(UserRepository.class);
+        User user = User.builder().id(1L).username("s@gmail.com").password(new BCryptPasswordEncoder(4).encode("pw"))
+                .profileCompleted("13").build();
+        when(userRepository.findByUsername("s@gmail.com")).thenReturn(Optional.of(user));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(5, 1, 4, 1, meterRegistry);
+        try {
+            CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository);
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(userDetailsService);
+            provider.setPasswordEncoder(encoder);
+            provider.setUserDetailsPasswordService(userDetailsService);
+
+            provider.authenticate(new UsernamePasswordAuthenticationToken("s@gmail.com", "pw"));
+
+            verify(userRepository).save(user);
+            assertTrue(user.getPassword().startsWith("$2a$05$"));
+            assertTrue(encoder.matches("pw", user.getPassword()));
+        } finally {
+            encoder.shutdown();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condition not reached in time");
+            Thread.sleep(5);
+        }
+    }
+}
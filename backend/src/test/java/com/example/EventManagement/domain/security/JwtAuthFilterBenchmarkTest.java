@@ -0,0 +1,67 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.repository.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import static org.mockito.Mockito.mock;
+
+// Filter throughput for one authenticated request: the old parse + findByUsername per request
+// against the claims-based principal. H2 is in-process, so against MySQL over a network every
+// saved lookup is worth a round trip more. mvn test -Pbenchmark -Dtest=JwtAuthFilterBenchmarkTest
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JwtAuthFilterBenchmarkTest {
+
+    private static final int WARMUP = 5_000;
+    private static final int REQUESTS = 50_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void databaseLookupVersusClaims() throws Exception {
+        User user = JwtAuthFilterTest.student();
+        user.setId(null);
+        user = userRepository.save(user);
+
+        AuthUtil authUtil = new AuthUtil(JwtAuthFilterTest.SECRET);
+        HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+        JwtAuthFilter lookup = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(0, 0), exceptionResolver);
+        JwtAuthFilter claims = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(0, 0), exceptionResolver);
+        String legacyToken = JwtAuthFilterTest.legacyToken(user.getUsername(), user.getId());
+        String claimsToken = authUtil.generateAccessToken(user);
+
+        run(lookup, legacyToken, WARMUP);
+        run(claims, claimsToken, WARMUP);
+        double lookupPerSecond = run(lookup, legacyToken, REQUESTS);
+        double claimsPerSecond = run(claims, claimsToken, REQUESTS);
+
+        System.out.printf("JwtAuthFilter, %d requests: findByUsername %.0f req/s, claims %.0f req/s%n",
+                REQUESTS, lookupPerSecond, claimsPerSecond);
+    }
+
+    private static double run(JwtAuthFilter filter, String token, int requests) throws Exception {
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(JwtAuthFilterTest.request(token), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        SecurityContextHolder.clearContext();
+        return requests / ((System.nanoTime() - started) / 1e9);
+    }
+}
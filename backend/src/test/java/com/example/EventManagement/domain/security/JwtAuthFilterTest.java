@@ -0,0 +1,111 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.entity.type.UserType;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class JwtAuthFilterTest {
+
+    static final String SECRET = "adsfasfsadfsodredsfweroerwweretd";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final AuthUtil authUtil = new AuthUtil(SECRET);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void claimsTokenAuthenticatesWithoutTouchingTheDatabase() throws Exception {
+        JwtAuthFilter filter = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(100, 60), exceptionResolver);
+        String token = authUtil.generateAccessToken(student());
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        User principal = (User) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        assertEquals(7L, principal.getId());
+        assertEquals("s@gmail.com", principal.getUsername());
+        assertEquals(UserType.STUDENT, principal.getUsertype());
+        assertEquals("1110", principal.getProfileCompleted());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void legacyTokenIsLookedUpOnceWhileCached() throws Exception {
+        when(userRepository.findByUsername("s@gmail.com")).thenReturn(Optional.of(student()));
+        JwtAuthFilter filter = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(100, 60), exceptionResolver);
+        String token = legacyToken("s@gmail.com", 7L);
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+            assertEquals(7L, ((User) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getId());
+        }
+        verify(userRepository, times(1)).findByUsername("s@gmail.com");
+    }
+
+    @Test
+    void disabledCacheLooksUpEveryLegacyToken() throws Exception {
+        when(userRepository.findByUsername("s@gmail.com")).thenReturn(Optional.of(student()));
+        JwtAuthFilter filter = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(0, 60), exceptionResolver);
+        String token = legacyToken("s@gmail.com", 7L);
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+        }
+        verify(userRepository, times(3)).findByUsername("s@gmail.com");
+    }
+
+    @Test
+    void tamperedTokenIsResolvedAsAnError() throws Exception {
+        JwtAuthFilter filter = new JwtAuthFilter(userRepository, authUtil, new JwtPrincipalCache(100, 60), exceptionResolver);
+        String token = new AuthUtil(SECRET.toUpperCase()).generateAccessToken(student());
+
+        filter.doFilter(request(token), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(exceptionResolver).resolveException(any(), any(), any(), any());
+        verifyNoInteractions(userRepository);
+    }
+
+    static User student() {
+        return User.builder().id(7L).username("s@gmail.com").name("S").usertype(UserType.STUDENT).profileCompleted("1110").build();
+    }
+
+    // what generateAccessToken signed before usertype and profileCompleted were added
+    static String legacyToken(String username, Long userId) {
+        return Jwts.builder()
+                .subject(username)
+                .claim("userId", userId.toString())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/Event/eventlist");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.EventManagement.domain.security;
+
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.error.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), exceptionResolver, meterRegistry, clock::get);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void burstAboveCapacityIsRejectedWithRetryAfter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(passes("/OME/GetData/1", "10.0.0.1"));
+        }
+        assertFalse(passes("/OME/GetData/1", "10.0.0.1"));
+
+        ArgumentCaptor<Exception> rejected = ArgumentCaptor.forClass(Exception.class);
+        verify(exceptionResolver).resolveException(any(), any(), isNull(), rejected.capture());
+        assertEquals(2, ((RateLimitExceededException) rejected.getValue()).getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get("http.rate_limit.rejected").tag("group", "heavy").counter().count());
+
+        // other route groups and other clients keep their own buckets
+        assertTrue(passes("/Event/eventlist", "10.0.0.1"));
+        assertTrue(passes("/OME/GetData/1", "10.0.0.2"));
+    }
+
+    @Test
+    void bucketRefillsOverTime() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            passes("/OME/GetData/1", "10.0.0.1");
+        }
+        assertFalse(passes("/OME/GetData/1", "10.0.0.1"));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2_000));
+        assertTrue(passes("/OME/GetData/1", "10.0.0.1"));
+        assertFalse(passes("/OME/GetData/1", "10.0.0.1"));
+    }
+
+    @Test
+    void signedInClientsAreKeyedByUsernameNotIp() throws Exception {
+        User user = User.builder().id(1L).username("s@gmail.com").build();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(user, null, null));
+        for (int i = 0; i < 3; i++) {
+            assertTrue(passes("/OME/GetData/1", "10.0.0." + i));
+        }
+        assertFalse(passes("/OME/GetData/1", "10.0.0.9"));
+
+        SecurityContextHolder.clearContext();
+        assertTrue(passes("/OME/GetData/1", "10.0.0.9"));
+    }
+
+    @Test
+    void idleBucketsAreEvicted() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            passes("/Event/eventlist", "10.0.1." + i);
+        }
+        assertEquals(50, filter.bucketCount());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(61));
+        passes("/Event/eventlist", "10.0.2.1");
+
+        assertEquals(1, filter.bucketCount());
+    }
+
+    @Test
+    void concurrentCallersNeverTakeMoreThanCapacity() throws Exception {
+        TokenBucket bucket = new TokenBucket(100, 0, 0);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        try {
+            List<Callable<Boolean>> calls = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                calls.add(() -> bucket.tryConsume(0) == 0);
+            }
+            long taken = 0;
+            for (Future<Boolean> result : pool.invokeAll(calls)) {
+                taken += result.get() ? 1 : 0;
+            }
+            assertEquals(100, taken);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private boolean passes(String path, String ip) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setRemoteAddr(ip);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest() != null;
+    }
+
+    private static RateLimitProperties properties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setIdleSeconds(60);
+        properties.getGroups().add(group("heavy", "/OME/GetData/**", 3, 0.5));
+        properties.getGroups().add(group("default", "/**", 100, 20));
+        return properties;
+    }
+
+    private static RateLimitProperties.Group group(String name, String path, long capacity, double refillPerSecond) {
+        RateLimitProperties.Group group = new RateLimitProperties.Group();
+        group.setName(name);
+        group.getPaths().add(path);
+        group.setCapacity(capacity);
+        group.setRefillPerSecond(refillPerSecond);
+        return group;
+    }
+}
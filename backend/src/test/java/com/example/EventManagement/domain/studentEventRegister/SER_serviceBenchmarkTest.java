@@ -0,0 +1,89 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import com.example.EventManagement.domain.Student.EventCapacityGate;
+import com.example.EventManagement.domain.Student.StudentEventRegisterRepository;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SingleFlightProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+// Saving 2,000 applicant statuses: the old one-UPDATE-per-row loop against the grouped
+// UPDATE ... IN path. H2 is in-process, so against MySQL over a network the gap is wider.
+// mvn test -Pbenchmark -Dtest=SER_serviceBenchmarkTest
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SER_serviceBenchmarkTest {
+
+    private static final int APPLICANTS = 2_000;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private SER_repository serRepository;
+    @Autowired
+    private StudentEventRegisterRepository registerRepository;
+    @Autowired
+    private EventRegistrationStatsRepository statsRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void perRowLoopVersusGroupedUpdate() {
+        jdbcTemplate.update("INSERT INTO events (id, title, managedby_manager) VALUES (1, 'Rush', false)");
+        jdbcTemplate.batchUpdate("INSERT INTO user (id, username, profile_completed) VALUES (?, ?, '13')",
+                LongStream.rangeClosed(1, APPLICANTS).mapToObj(i -> new Object[]{i, "s" + i + "@gmail.com"}).toList());
+        jdbcTemplate.batchUpdate("INSERT INTO student_event_register (id, event_id, user_id, status) VALUES (?, 1, ?, 'PENDING')",
+                LongStream.rangeClosed(1, APPLICANTS).mapToObj(i -> new Object[]{i, i}).toList());
+
+        SER_service serService = new SER_service(serRepository, null, new EventRegistrationStatsService(statsRepository),
+                new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry()), new EventCapacityGate(registerRepository));
+        List<Long> loop = new ArrayList<>();
+        List<Long> grouped = new ArrayList<>();
+
+        for (int round = 0; round < ROUNDS; round++) {
+            List<StudentStatusUpdateDTO> updates = updates(round);
+
+            long started = System.nanoTime();
+            for (StudentStatusUpdateDTO update : updates) {
+                // what SER_repository.updateStudentStatus ran once per row
+                entityManager.createNativeQuery("UPDATE student_event_register SET status = :status WHERE event_id = :eventid AND id = :id")
+                        .setParameter("eventid", "1")
+                        .setParameter("id", update.getId())
+                        .setParameter("status", update.getStatus())
+                        .executeUpdate();
+            }
+            loop.add(System.nanoTime() - started);
+
+            started = System.nanoTime();
+            serService.saveEventstddata("1", updates);
+            grouped.add(System.nanoTime() - started);
+        }
+
+        System.out.printf("%d status updates, median of %d rounds: per-row loop %.1f ms, grouped %.1f ms%n",
+                APPLICANTS, ROUNDS, median(loop) / 1e6, median(grouped) / 1e6);
+    }
+
+    private static List<StudentStatusUpdateDTO> updates(int round) {
+        return LongStream.rangeClosed(1, APPLICANTS)
+                .mapToObj(id -> new StudentStatusUpdateDTO(id, (id + round) % 3 == 0 ? "REJECTED" : "APPROVED"))
+                .toList();
+    }
+
+    private static double median(List<Long> nanos) {
+        return nanos.stream().sorted().toList().get(nanos.size() / 2);
+    }
+}
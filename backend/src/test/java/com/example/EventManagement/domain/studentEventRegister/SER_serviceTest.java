@@ -0,0 +1,228 @@
+package com.example.EventManagement.domain.studentEventRegister;
+
+import com.example.EventManagement.domain.Event.Event;
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.example.EventManagement.domain.Student.EventCapacityGate;
+import com.example.EventManagement.domain.Student.StudentEventRegister;
+import com.example.EventManagement.domain.Student.StudentEventRegisterRepository;
+import com.example.EventManagement.domain.config.SingleFlight;
+import com.example.EventManagement.domain.config.SingleFlightProperties;
+import com.example.EventManagement.domain.entity.User;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitation;
+import com.example.EventManagement.domain.organizeManageEvents.EventInvitationRepository;
+import com.example.EventManagement.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SER_serviceTest {
+
+    @Autowired
+    private SER_repository serRepository;
+    @Autowired
+    private EventRegistrationStatsRepository statsRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private StudentEventRegisterRepository registerRepository;
+    @Autowired
+    private EventInvitationRepository invitationRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkSaveReportsAnOutcomePerRow() {
+        Event expo = eventRepository.save(Event.builder().title("Expo").build());
+        Event meetup = eventRepository.save(Event.builder().title("Meetup").build());
+        StudentEventRegister first = register(expo, "a@gmail.com");
+        StudentEventRegister second = register(expo, "b@gmail.com");
+        StudentEventRegister other = register(meetup, "c@gmail.com");
+        statsRepository.backfillMissing();
+        entityManager.clear();
+
+        SER_service serService = new SER_service(serRepository, null, new EventRegistrationStatsService(statsRepository),
+                new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry()), new EventCapacityGate(registerRepository));
+        List<StudentStatusUpdateResultDTO> results = serService.saveEventstddata(String.valueOf(expo.getId()), List.of(
+                new StudentStatusUpdateDTO(first.getId(), "APPROVED"),
+                new StudentStatusUpdateDTO(second.getId(), "REJECTED"),
+                new StudentStatusUpdateDTO(other.getId(), "APPROVED"),
+                new StudentStatusUpdateDTO(-1L, "APPROVED"),
+                new StudentStatusUpdateDTO(second.getId(), "APPROVED")));
+        entityManager.clear();
+
+        assertEquals(List.of(
+                new StudentStatusUpdateResultDTO(first.getId(), StudentStatusUpdateOutcome.UPDATED),
+                new StudentStatusUpdateResultDTO(second.getId(), StudentStatusUpdateOutcome.UPDATED),
+                new StudentStatusUpdateResultDTO(other.getId(), StudentStatusUpdateOutcome.WRONG_EVENT),
+                new StudentStatusUpdateResultDTO(-1L, StudentStatusUpdateOutcome.NOT_FOUND)), results);
+        assertEquals("APPROVED", registerRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals("APPROVED", registerRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertEquals("PENDING", registerRepository.findById(other.getId()).orElseThrow().getStatus());
+
+        assertEquals(List.of(2L, 0L, 2L, 0L), counts(expo.getId()));
+        assertEquals(List.of(1L, 1L, 0L, 0L), counts(meetup.getId()));
+    }
+
+    @Test
+    void rejectedApplicantIsNotTakenBackIntoAFullEvent() {
+        Event expo = eventRepository.save(Event.builder().title("Expo").requiredVolunteer(1).build());
+        StudentEventRegister pending = register(expo, "a@gmail.com");
+        StudentEventRegister rejected = register(expo, "b@gmail.com", "REJECTED");
+        statsRepository.backfillMissing();
+        entityManager.flush();
+        entityManager.clear();
+
+        EventCapacityGate gate = new EventCapacityGate(registerRepository);
+        SER_service serService = new SER_service(serRepository, null, new EventRegistrationStatsService(statsRepository),
+                new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry()), gate);
+        List<StudentStatusUpdateResultDTO> results = serService.saveEventstddata(String.valueOf(expo.getId()), List.of(
+                new StudentStatusUpdateDTO(rejected.getId(), "APPROVED")));
+        entityManager.clear();
+
+        // the rejected row holds no seat, the pending one holds the only seat
+        assertEquals(List.of(new StudentStatusUpdateResultDTO(rejected.getId(), StudentStatusUpdateOutcome.EVENT_FULL)), results);
+        assertEquals(1, gate.taken(expo.getId()));
+        assertEquals("REJECTED", registerRepository.findById(rejected.getId()).orElseThrow().getStatus());
+        assertEquals("PENDING", registerRepository.findById(pending.getId()).orElseThrow().getStatus());
+    }
+
+    // Two organizers approve the same applicant at once. The second save has to wait for the
+    // first one's row lock and then see APPROVED, or both would move it out of PENDING.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void concurrentSavesOfOneRegistrationCountItOnce() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Event expo = transaction.execute(status -> eventRepository.save(Event.builder().title("Expo").build()));
+        StudentEventRegister registration = transaction.execute(status -> {
+            StudentEventRegister saved = register(expo, "locked@gmail.com");
+            statsRepository.backfillMissing();
+            return saved;
+        });
+        String eventid = String.valueOf(expo.getId());
+        List<StudentStatusUpdateDTO> approve = List.of(new StudentStatusUpdateDTO(registration.getId(), "APPROVED"));
+        SER_service serService = new SER_service(serRepository, null, new EventRegistrationStatsService(statsRepository),
+                new SingleFlight(new SingleFlightProperties(), new SimpleMeterRegistry()), new EventCapacityGate(registerRepository));
+
+        CountDownLatch firstSaved = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService organizers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = organizers.submit(() -> transaction.executeWithoutResult(status -> {
+                serService.saveEventstddata(eventid, approve);
+                firstSaved.countDown();
+                await(commitFirst);
+            }));
+            assertTrue(firstSaved.await(10, TimeUnit.SECONDS));
+            Future<?> second = organizers.submit(() -> transaction.executeWithoutResult(
+                    status -> serService.saveEventstddata(eventid, approve)));
+            Thread.sleep(300);
+            commitFirst.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+
+            assertEquals(List.of(1L, 0L, 1L, 0L), counts(expo.getId()));
+        } finally {
+            organizers.shutdownNow();
+            transaction.executeWithoutResult(status -> {
+                registerRepository.deleteById(registration.getId());
+                statsRepository.deleteAll(shards(expo.getId()));
+                eventRepository.deleteById(expo.getId());
+                userRepository.deleteById(registration.getUser().getId());
+            });
+        }
+    }
+
+    @Test
+    void dashboardCountsAreNotMultipliedByInvitations() {
+        Event expo = eventRepository.save(Event.builder().title("Expo").build());
+        register(expo, "a@gmail.com");
+        register(expo, "b@gmail.com");
+        for (Long role : List.of(1L, 2L, 3L)) {
+            invitationRepository.save(EventInvitation.builder()
+                    .eventid(expo.getId()).roleid(role).userid(9L).selected(true).build());
+        }
+        statsRepository.backfillMissing();
+        entityManager.flush();
+
+        new EventRegistrationStatsService(statsRepository).registered(expo.getId(), "APPROVED");
+
+        List<SER_Eventlist_DTO> stats = serRepository.getEventStats(9L);
+        assertEquals(1, stats.size());
+        assertEquals(3L, stats.get(0).getTotalStudents());
+        assertEquals(2L, stats.get(0).getPendingCount());
+        assertEquals(1L, stats.get(0).getApprovedCount());
+    }
+
+    @Test
+    void registrationsForOneEventSpreadOverItsCounterShards() {
+        Event rush = eventRepository.save(Event.builder().title("Rush").build());
+        EventRegistrationStatsService statsService = new EventRegistrationStatsService(statsRepository);
+
+        for (int i = 0; i < 64; i++) {
+            statsService.registered(rush.getId(), "PENDING");
+        }
+        statsService.statusChanged(rush.getId(), "PENDING", "APPROVED");
+        entityManager.clear();
+
+        assertTrue(shards(rush.getId()).size() > 1);
+        assertTrue(shards(rush.getId()).size() <= EventRegistrationStats.SHARDS);
+        assertEquals(List.of(64L, 63L, 1L, 0L), counts(rush.getId()));
+    }
+
+    private List<EventRegistrationStats> shards(Long eventId) {
+        return statsRepository.findAll().stream().filter(shard -> shard.getEventId().equals(eventId)).toList();
+    }
+
+    // total, pending, approved, rejected, summed over the event's shards
+    private List<Long> counts(Long eventId) {
+        long[] counts = new long[4];
+        for (EventRegistrationStats shard : shards(eventId)) {
+            counts[0] += shard.getTotal();
+            counts[1] += shard.getPending();
+            counts[2] += shard.getApproved();
+            counts[3] += shard.getRejected();
+        }
+        return List.of(counts[0], counts[1], counts[2], counts[3]);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private StudentEventRegister register(Event event, String username) {
+        return register(event, username, "PENDING");
+    }
+
+    private StudentEventRegister register(Event event, String username, String status) {
+        User user = userRepository.save(User.builder().username(username).name(username).profileCompleted("13").build());
+        return registerRepository.save(StudentEventRegister.builder().event(event).user(user).status(status).build());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.EventManagement.domain.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionalGetTest {
+
+    private final ResourceVersions versions = new ResourceVersions();
+
+    @Test
+    void matchingTagSkipsTheBody() {
+        String etag = versions.etag(ResourceVersions.event(1L));
+        AtomicInteger loads = new AtomicInteger();
+        String served = ConditionalGet.ok(request(null, null), etag, ConditionalGet.PUBLIC, () -> "body")
+                .getHeaders().getETag();
+
+        ResponseEntity<String> response = ConditionalGet.ok(request(null, served), etag, ConditionalGet.PUBLIC,
+                () -> "body" + loads.incrementAndGet());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(served, response.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), response.getHeaders().getVary());
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void bumpedVersionServesTheNewBody() {
+        String before = versions.etag(ResourceVersions.event(1L));
+        String served = ConditionalGet.ok(request(null, null), before, ConditionalGet.PUBLIC, () -> "body")
+                .getHeaders().getETag();
+        versions.bump(ResourceVersions.event(1L));
+        String after = versions.etag(ResourceVersions.event(1L));
+
+        ResponseEntity<String> response = ConditionalGet.ok(request(null, served), after, ConditionalGet.PUBLIC, () -> "body");
+
+        assertNotEquals(before, after);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("body", response.getBody());
+        assertNotEquals(served, response.getHeaders().getETag());
+    }
+
+    @Test
+    void eachRepresentationHasItsOwnTag() {
+        String etag = versions.etag(ResourceVersions.event(1L));
+        ResponseEntity<String> json = ConditionalGet.ok(request("application/json", null), etag, ConditionalGet.PUBLIC, () -> "body");
+        String jsonTag = json.getHeaders().getETag();
+
+        ResponseEntity<String> cbor = ConditionalGet.ok(request("application/cbor", jsonTag), etag, ConditionalGet.PUBLIC,
+                () -> "body");
+
+        assertEquals(MediaType.APPLICATION_JSON, json.getHeaders().getContentType());
+        assertEquals(HttpStatus.OK, cbor.getStatusCode());
+        assertEquals(MediaType.APPLICATION_CBOR, cbor.getHeaders().getContentType());
+        assertNotEquals(jsonTag, cbor.getHeaders().getETag());
+        assertEquals(List.of(HttpHeaders.ACCEPT), cbor.getHeaders().getVary());
+    }
+
+    @Test
+    void acceptPicksTheRepresentation() {
+        assertEquals(MediaType.APPLICATION_JSON, ConditionalGet.representation(null));
+        assertEquals(MediaType.APPLICATION_JSON, ConditionalGet.representation("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, ConditionalGet.representation("application/json, text/plain, */*"));
+        assertEquals(MediaType.APPLICATION_CBOR, ConditionalGet.representation("application/cbor"));
+        assertEquals(MediaType.APPLICATION_CBOR, ConditionalGet.representation("application/cbor, */*"));
+        assertEquals(MediaType.APPLICATION_JSON, ConditionalGet.representation("application/cbor;q=0.5, application/json"));
+        assertEquals(MediaType.APPLICATION_JSON, ConditionalGet.representation("application/cbor;q=0, */*"));
+        assertNull(ConditionalGet.representation("text/html"));
+    }
+
+    @Test
+    void ifNoneMatchUsesWeakComparison() {
+        assertTrue(ConditionalGet.matches("\"a.1\", W/\"a.2\"", "\"a.2\""));
+        assertTrue(ConditionalGet.matches("*", "\"a.2\""));
+        assertFalse(ConditionalGet.matches("\"a.1\"", "\"a.2\""));
+        assertFalse(ConditionalGet.matches(null, "\"a.2\""));
+    }
+
+    @Test
+    void bumpInsideATransactionWaitsForCommit() {
+        String before = versions.etag(ResourceVersions.profile(7L));
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versions.bump(ResourceVersions.profile(7L));
+            assertEquals(before, versions.etag(ResourceVersions.profile(7L)));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertNotEquals(before, versions.etag(ResourceVersions.profile(7L)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ServletWebRequest request(String accept, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/Event/1");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.EventManagement.domain.web;
+
+import com.example.EventManagement.domain.Event.EventRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Over a real Tomcat, since compression happens in the connector. The threshold is lowered so
+// the ten DataInitializer registrations of an event are enough to be compressed.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:content-negotiation;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+        "server.compression.min-response-size=256",
+        "app.rate-limit.enabled=false"
+})
+@ActiveProfiles("h2")
+class ContentNegotiationTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private URI registrations;
+
+    @BeforeEach
+    void setUp() {
+        registrations = URI.create("http://localhost:" + port + "/SER/getEventstats/" + eventRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    void cborIsServedWhenAskedFor() throws Exception {
+        HttpResponse<byte[]> cbor = send(HttpRequest.newBuilder(registrations).header("Accept", "application/cbor"));
+        HttpResponse<byte[]> json = send(HttpRequest.newBuilder(registrations).header("Accept", "application/json"));
+
+        assertEquals("application/cbor", cbor.headers().firstValue("Content-Type").orElseThrow());
+        JsonNode body = new CBORMapper().readTree(cbor.body());
+        assertEquals(10, body.get("students").size());
+        assertEquals(new ObjectMapper().readTree(json.body()), body);
+        assertTrue(cbor.body().length < json.body().length);
+    }
+
+    @Test
+    void jsonStaysTheDefault() throws Exception {
+        HttpResponse<byte[]> response = send(HttpRequest.newBuilder(registrations));
+
+        assertTrue(response.headers().firstValue("Content-Type").orElseThrow().startsWith("application/json"));
+    }
+
+    @Test
+    void conditionalReadsAreTaggedPerRepresentation() throws Exception {
+        URI events = URI.create("http://localhost:" + port + "/Event/eventlist");
+        HttpResponse<byte[]> json = send(HttpRequest.newBuilder(events).header("Accept", "application/json"));
+        String jsonTag = json.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<byte[]> cbor = send(HttpRequest.newBuilder(events).header("Accept", "application/cbor")
+                .header("If-None-Match", jsonTag));
+
+        assertEquals("application/cbor", cbor.headers().firstValue("Content-Type").orElseThrow());
+        assertNotEquals(jsonTag, cbor.headers().firstValue("ETag").orElseThrow());
+        assertTrue(json.headers().allValues("Vary").stream().anyMatch(vary -> vary.contains("Accept")),
+                json.headers().allValues("Vary").toString());
+        assertTrue(cbor.headers().allValues("Vary").stream().anyMatch(vary -> vary.contains("Accept")),
+                cbor.headers().allValues("Vary").toString());
+    }
+
+    @Test
+    void largeResponsesAreGzipped() throws Exception {
+        HttpResponse<byte[]> plain = send(HttpRequest.newBuilder(registrations));
+        HttpResponse<byte[]> gzipped = send(HttpRequest.newBuilder(registrations).header("Accept-Encoding", "gzip"));
+
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElseThrow());
+        assertTrue(gzipped.body().length < plain.body().length);
+        assertEquals(new ObjectMapper().readTree(plain.body()), new ObjectMapper().readTree(gunzip(gzipped.body())));
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode());
+        return response;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
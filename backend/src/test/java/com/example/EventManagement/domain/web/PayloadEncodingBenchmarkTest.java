@@ -0,0 +1,144 @@
+package com.example.EventManagement.domain.web;
+
+import com.example.EventManagement.domain.Event.EventOutDto;
+import com.example.EventManagement.domain.studentEventRegister.EventStudentData_DTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+// JMH: writing a /SER/getEventstats body with 5,000 applicants as JSON and as CBOR, plain and
+// gzipped the way server.compression does it. The applicants are Spring Data projections, as the
+// repository returns them. Sizes are printed before the timings.
+// mvn test -Pbenchmark -Dtest=PayloadEncodingBenchmarkTest
+@Tag("benchmark")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayloadEncodingBenchmarkTest {
+
+    private static final int APPLICANTS = 5_000;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        json = mapper(Jackson2ObjectMapperBuilder.json());
+        cbor = mapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()));
+        payload = payload();
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json.writeValueAsBytes(payload));
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cbor.writeValueAsBytes(payload));
+    }
+
+    @Test
+    void run() throws Exception {
+        setUp();
+        System.out.printf("%d applicants: json %d B, cbor %d B, json+gzip %d B, cbor+gzip %d B%n",
+                APPLICANTS, json().length, cbor().length, jsonGzip().length, cborGzip().length);
+
+        new Runner(new OptionsBuilder()
+                .include(PayloadEncodingBenchmarkTest.class.getName() + "\\.")
+                .forks(0)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build()).run();
+    }
+
+    // what WebConfig sets up: Boot's builder plus the pass-through field filter
+    private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.filters(new SimpleFilterProvider()
+                        .addFilter(FieldSelection.FILTER, SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+    }
+
+    private static Map<String, Object> payload() {
+        EventOutDto event = new EventOutDto();
+        event.setId(1L);
+        event.setTitle("Beach clean-up");
+        event.setDescription("Description ".repeat(150));
+        event.setStartAt(LocalDateTime.of(2026, 6, 1, 9, 0));
+        event.setEndAt(LocalDateTime.of(2026, 6, 1, 17, 0));
+        event.setLocation("North beach");
+        event.setRequiredVolunteer("5000");
+        event.setStatus("Event Created");
+        event.setCategory("Environment");
+
+        SpelAwareProxyProjectionFactory projections = new SpelAwareProxyProjectionFactory();
+        List<EventStudentData_DTO> students = IntStream.range(0, APPLICANTS)
+                .mapToObj(i -> {
+                    Map<String, Object> row = new HashMap<>();
+                    row.put("id", (long) i);
+                    row.put("name", "Student " + i);
+                    row.put("username", "student" + i + "@gmail.com");
+                    row.put("university", "State University " + i % 20);
+                    row.put("degree", i % 2 == 0 ? "BSc Computer Science" : "BA Economics");
+                    row.put("currentYear", String.valueOf(1 + i % 4));
+                    row.put("skills", "first aid, logistics, photography");
+                    row.put("status", i % 3 == 0 ? "APPROVED" : "PENDING");
+                    row.put("availability", "Weekends");
+                    row.put("marks", String.valueOf(60 + i % 40));
+                    row.put("bio", "Volunteer with " + i % 7 + " years of community work.");
+                    return projections.createProjection(EventStudentData_DTO.class, row);
+                })
+                .toList();
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("event", event);
+        payload.put("students", students);
+        return payload;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -150,7 +150,7 @@ var userid=localStorage.getItem("id");
 
   const filteredEvents = events.filter(event => {
     const matchesSearch = event.title.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         event.description.toLowerCase().includes(searchTerm.toLowerCase());
+                         (event.summary ?? '').toLowerCase().includes(searchTerm.toLowerCase());
     const matchesCategory = filterCategory === 'all' || event.category === filterCategory;
     return matchesSearch && matchesCategory;
   });
@@ -239,7 +239,7 @@ var userid=localStorage.getItem("id");
                 <Badge variant="secondary">{event.category}</Badge>
               </div>
               
-              <p className="text-sm text-gray-600 mb-4 line-clamp-2">{event.description}</p>
+              <p className="text-sm text-gray-600 mb-4 line-clamp-2">{event.summary}</p>
               
               <div className="space-y-2 mb-4">
                 <div className="flex items-center text-sm text-gray-600">